@@ -0,0 +1,47 @@
+package com.vi.tenantservice.benchmark;
+
+import com.vi.tenantservice.api.config.InputSanitizerProperties;
+import com.vi.tenantservice.api.validation.InputSanitizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Sanitizing of a privacy text with each of the built-in policies. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class InputSanitizerBenchmark {
+
+  @Param({
+    InputSanitizer.PLAIN_TEXT_POLICY,
+    InputSanitizer.FORMATTING_POLICY,
+    InputSanitizer.FORMATTING_AND_LINKS_POLICY
+  })
+  private String policy;
+
+  private InputSanitizer inputSanitizer;
+  private String privacyText;
+
+  @Setup
+  public void setUp() {
+    inputSanitizer = new InputSanitizer(new InputSanitizerProperties());
+    privacyText = TenantFixtures.privacyText("de");
+  }
+
+  @Benchmark
+  public String sanitize() {
+    return inputSanitizer.sanitize(privacyText, policy);
+  }
+}
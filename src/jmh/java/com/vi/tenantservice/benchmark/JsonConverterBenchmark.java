@@ -0,0 +1,45 @@
+package com.vi.tenantservice.benchmark;
+
+import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.util.JsonConverter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parsing of the tenant settings and of the translated tenant content. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class JsonConverterBenchmark {
+
+  private String settingsJson;
+  private String privacyJson;
+
+  @Setup
+  public void setUp() {
+    settingsJson = JsonConverter.convertToJson(TenantFixtures.tenantSettings());
+    privacyJson = TenantFixtures.translationsJson(TenantFixtures::privacyText);
+  }
+
+  @Benchmark
+  public TenantSettings convertFromJson() {
+    return JsonConverter.convertFromJson(settingsJson);
+  }
+
+  @Benchmark
+  public Map<String, String> convertMapFromJson() {
+    return JsonConverter.convertMapFromJson(privacyJson);
+  }
+}
@@ -0,0 +1,35 @@
+package com.vi.tenantservice.benchmark;
+
+import com.vi.tenantservice.api.tenant.SubdomainExtractor;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Extraction of the subdomain from the host names the tenants are served on. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class SubdomainExtractorBenchmark {
+
+  @Param({"beratung.onlineberatung.net", "beratung.app.onlineberatung.co.uk", "localhost"})
+  private String host;
+
+  private final SubdomainExtractor subdomainExtractor = new SubdomainExtractor();
+
+  @Benchmark
+  public Optional<String> getSubdomain() {
+    return subdomainExtractor.getSubdomain(host);
+  }
+}
@@ -0,0 +1,49 @@
+package com.vi.tenantservice.benchmark;
+
+import static com.vi.tenantservice.api.model.DataProtectionPlaceHolderType.DATA_PROTECTION_OFFICER;
+import static com.vi.tenantservice.api.model.DataProtectionPlaceHolderType.DATA_PROTECTION_RESPONSIBLE;
+
+import com.vi.tenantservice.api.service.TemplateRenderer;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Rendering of a privacy text with data protection placeholders by the cached template. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class TemplateRendererBenchmark {
+
+  private TemplateRenderer templateRenderer;
+  private String privacyText;
+  private Map<String, Object> dataModel;
+
+  @Setup
+  public void setUp() throws Exception {
+    templateRenderer = TenantFixtures.templateRenderer();
+    privacyText = TenantFixtures.privacyText("de");
+    dataModel =
+        Map.of(
+            DATA_PROTECTION_OFFICER.getPlaceholderVariable(), "datenschutz@example.com",
+            DATA_PROTECTION_RESPONSIBLE.getPlaceholderVariable(), "Beratung & Hilfe e.V.");
+  }
+
+  @Benchmark
+  public String renderTemplate() throws IOException, TemplateException {
+    return templateRenderer.renderTemplate(privacyText, dataModel);
+  }
+}
@@ -0,0 +1,53 @@
+package com.vi.tenantservice.benchmark;
+
+import com.vi.tenantservice.api.converter.TenantConverter;
+import com.vi.tenantservice.api.model.MultilingualTenantDTO;
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import com.vi.tenantservice.api.model.TenantEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion of a tenant into its public and its multilingual representation. The restricted
+ * tenant cache is not involved, so every invocation converts and renders the tenant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class TenantConverterBenchmark {
+
+  @Param({"de", "en"})
+  private String language;
+
+  private TenantConverter tenantConverter;
+  private TenantEntity tenant;
+
+  @Setup
+  public void setUp() throws Exception {
+    tenantConverter = TenantFixtures.tenantConverter();
+    tenant = TenantFixtures.tenant();
+  }
+
+  @Benchmark
+  public RestrictedTenantDTO toRestrictedTenantDTO() {
+    return tenantConverter.toRestrictedTenantDTO(tenant, language);
+  }
+
+  @Benchmark
+  public MultilingualTenantDTO toMultilingualDTO() {
+    return tenantConverter.toMultilingualDTO(tenant);
+  }
+}
@@ -0,0 +1,49 @@
+package com.vi.tenantservice.benchmark;
+
+import com.vi.tenantservice.api.facade.TenantFacadeChangeDetectionService;
+import com.vi.tenantservice.api.model.MultilingualTenantDTO;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantSetting;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Detection of the changed settings when a tenant with all languages is updated. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class TenantFacadeChangeDetectionBenchmark {
+
+  private final TenantFacadeChangeDetectionService changeDetectionService =
+      new TenantFacadeChangeDetectionService();
+
+  private TenantEntity existingTenant;
+  private MultilingualTenantDTO updatedTenant;
+
+  @Setup
+  public void setUp() throws Exception {
+    existingTenant = TenantFixtures.tenant();
+    updatedTenant = TenantFixtures.tenantConverter().toMultilingualDTO(existingTenant);
+    updatedTenant
+        .getSettings()
+        .featureStatisticsEnabled(false)
+        .activeLanguages(TenantFixtures.LANGUAGES.subList(0, 10));
+  }
+
+  @Benchmark
+  public List<TenantSetting> determineChangedSettings() {
+    return changeDetectionService.determineChangedSettings(updatedTenant, existingTenant);
+  }
+}
@@ -0,0 +1,129 @@
+package com.vi.tenantservice.benchmark;
+
+import com.vi.tenantservice.api.config.FreeMarkerConfig;
+import com.vi.tenantservice.api.converter.TenantConverter;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.service.TemplateRenderer;
+import com.vi.tenantservice.api.service.TemplateService;
+import com.vi.tenantservice.api.util.JsonConverter;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Realistic tenant data for the benchmarks: 20 languages, privacy texts of about 200 KB per
+ * language containing the data protection placeholders and logos of about 1 MB as base64 data
+ * urls.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TenantFixtures {
+
+  public static final List<String> LANGUAGES =
+      List.of(
+          "de", "en", "fr", "it", "es", "pl", "ru", "tr", "ar", "fa", "uk", "ro", "bg", "hr",
+          "sr", "sq", "ku", "ti", "vi", "zh");
+
+  public static final int PRIVACY_TEXT_BYTES = 200 * 1024;
+  public static final int LOGO_BASE64_BYTES = 1024 * 1024;
+
+  private static final String PNG_DATA_URL_PREFIX = "data:image/png;base64,";
+  private static final byte[] PNG_SIGNATURE = {
+    (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'
+  };
+  private static final String PRIVACY_PARAGRAPH =
+      "<p>Wir verarbeiten Ihre Daten gemäß <b>Art. 6 DSGVO</b>. Verantwortlich ist"
+          + " ${responsible}, den Datenschutzbeauftragten erreichen Sie unter"
+          + " ${dataProtectionOfficer}. Weitere Informationen finden Sie"
+          + " <a href=\"https://www.example.com/datenschutz\" target=\"_blank\">hier</a>.</p>\n";
+
+  public static String privacyText(String language) {
+    var text = new StringBuilder(PRIVACY_TEXT_BYTES + PRIVACY_PARAGRAPH.length());
+    text.append("<h1>Datenschutz (").append(language).append(")</h1>\n");
+    while (text.length() < PRIVACY_TEXT_BYTES) {
+      text.append(PRIVACY_PARAGRAPH);
+    }
+    return text.toString();
+  }
+
+  public static String base64Logo(long seed) {
+    var image = new byte[LOGO_BASE64_BYTES / 4 * 3 - PNG_DATA_URL_PREFIX.length()];
+    new Random(seed).nextBytes(image);
+    System.arraycopy(PNG_SIGNATURE, 0, image, 0, PNG_SIGNATURE.length);
+    return PNG_DATA_URL_PREFIX + Base64.getEncoder().encodeToString(image);
+  }
+
+  public static String translationsJson(Function<String, String> translation) {
+    Map<String, String> translations = new LinkedHashMap<>();
+    LANGUAGES.forEach(language -> translations.put(language, translation.apply(language)));
+    return JsonConverter.convertToJson(translations);
+  }
+
+  public static TenantSettings tenantSettings() {
+    return TenantSettings.builder()
+        .featureTopicsEnabled(true)
+        .topicsInRegistrationEnabled(true)
+        .featureDemographicsEnabled(true)
+        .featureAppointmentsEnabled(true)
+        .featureStatisticsEnabled(true)
+        .featureToolsEnabled(true)
+        .featureToolsOIDCToken("1234")
+        .isVideoCallAllowed(true)
+        .showAskerProfile(true)
+        .featureCentralDataProtectionTemplateEnabled(true)
+        .activeLanguages(LANGUAGES)
+        .build();
+  }
+
+  public static TenantEntity tenant() {
+    return TenantEntity.builder()
+        .id(1L)
+        .name("Beratung & Hilfe")
+        .subdomain("beratung")
+        .licensingAllowedNumberOfUsers(2000)
+        .themingPrimaryColor("#00538f")
+        .themingSecondaryColor("#cc1e1c")
+        .themingLogo(base64Logo(1))
+        .themingAssociationLogo(base64Logo(2))
+        .themingFavicon(base64Logo(3))
+        .contentImpressum(translationsJson(language -> "<p>Impressum " + language + "</p>"))
+        .contentClaim(translationsJson(language -> "Claim " + language))
+        .contentPrivacy(translationsJson(TenantFixtures::privacyText))
+        .contentTermsAndConditions(translationsJson(language -> "<p>AGB " + language + "</p>"))
+        .contentPrivacyActivationDate(LocalDateTime.of(2023, 1, 1, 0, 0))
+        .contentTermsAndConditionsActivationDate(LocalDateTime.of(2023, 1, 1, 0, 0))
+        .settings(JsonConverter.convertToJson(tenantSettings()))
+        .createDate(LocalDateTime.of(2022, 1, 1, 0, 0))
+        .updateDate(LocalDateTime.of(2023, 1, 1, 0, 0))
+        .build();
+  }
+
+  public static TemplateService templateService() {
+    var templateService = new TemplateService(new ConcurrentMapCacheManager());
+    templateService.init();
+    return templateService;
+  }
+
+  public static TemplateRenderer templateRenderer() throws Exception {
+    var templateRenderer = new TemplateRenderer(new FreeMarkerConfig().freemarkerConfiguration());
+    ReflectionTestUtils.setField(templateRenderer, "maxCachedTemplates", 500L);
+    templateRenderer.init();
+    return templateRenderer;
+  }
+
+  public static TenantConverter tenantConverter() throws Exception {
+    var tenantConverter = new TenantConverter(templateService(), templateRenderer());
+    ReflectionTestUtils.setField(
+        tenantConverter, "themingAssetUrlPrefix", "/service/tenant/public/id/");
+    ReflectionTestUtils.setField(tenantConverter, "omitInlineThemingImages", false);
+    return tenantConverter;
+  }
+}
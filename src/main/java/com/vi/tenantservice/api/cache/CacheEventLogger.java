@@ -9,7 +9,6 @@ public class CacheEventLogger implements CacheEventListener<Object, Object> {
 
   @Override
   public void onEvent(CacheEvent<? extends Object, ? extends Object> cacheEvent) {
-    log.info(
-        "caching event: ", cacheEvent.getKey(), cacheEvent.getOldValue(), cacheEvent.getNewValue());
+    log.debug("caching event: {} for key {}", cacheEvent.getType(), cacheEvent.getKey());
   }
 }
@@ -0,0 +1,54 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.converter.ConverterUtils.nullAsGerman;
+
+import com.vi.tenantservice.api.converter.TenantConverter;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.service.TenantService;
+import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/** Fills the restricted tenant cache for every tenant and active language on startup. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RestrictedTenantCacheWarmer {
+
+  private final @NonNull TenantService tenantService;
+
+  private final @NonNull TenantConverter tenantConverter;
+
+  @Value("${cache.restricted.tenant.warmup.enabled}")
+  private boolean warmupEnabled;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (!warmupEnabled) {
+      return;
+    }
+    log.info("Warming up restricted tenant cache");
+    tenantService.getAllTenants().forEach(this::warmUp);
+  }
+
+  private void warmUp(TenantEntity tenant) {
+    try {
+      getActiveLanguages(tenant)
+          .forEach(language -> tenantConverter.toRestrictedTenantDTO(tenant, language));
+    } catch (RuntimeException e) {
+      log.warn("Could not warm up restricted tenant cache for tenant {}", tenant.getId(), e);
+    }
+  }
+
+  private List<String> getActiveLanguages(TenantEntity tenant) {
+    if (tenant.getSettings() == null) {
+      return nullAsGerman(null);
+    }
+    return nullAsGerman(tenant.getParsedSettings().getActiveLanguages());
+  }
+}
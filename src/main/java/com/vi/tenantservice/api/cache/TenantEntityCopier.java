@@ -0,0 +1,25 @@
+package com.vi.tenantservice.api.cache;
+
+import com.vi.tenantservice.api.model.TenantEntity;
+import org.ehcache.spi.copy.Copier;
+
+/**
+ * Copies cached tenants when they are stored and read, so callers get detached instances and
+ * changes to them neither reach the cache nor other callers.
+ */
+public class TenantEntityCopier implements Copier<Object> {
+
+  @Override
+  public Object copyForRead(Object value) {
+    return copy(value);
+  }
+
+  @Override
+  public Object copyForWrite(Object value) {
+    return copy(value);
+  }
+
+  private static Object copy(Object value) {
+    return value instanceof TenantEntity tenant ? tenant.copy() : value;
+  }
+}
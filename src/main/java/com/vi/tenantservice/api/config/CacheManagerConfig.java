@@ -1,8 +1,126 @@
 package com.vi.tenantservice.api.config;
 
+import com.vi.tenantservice.api.cache.TenantEntityCopier;
+import java.io.IOException;
+import java.time.Duration;
+import javax.cache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.xml.XmlConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 
 @Configuration
 @EnableCaching
-public class CacheManagerConfig {}
+public class CacheManagerConfig {
+
+  public static final String TENANT_BY_SUBDOMAIN_CACHE = "tenantBySubdomain";
+  public static final String RESTRICTED_TENANT_CACHE = "restrictedTenant";
+  public static final String CONSULTING_TYPES_CACHE = "consultingTypes";
+
+  private static final String DEFAULT_CACHE_TEMPLATE = "default";
+
+  @Value("${spring.cache.jcache.config}")
+  private Resource cacheConfiguration;
+
+  @Value("${cache.tenant.by.subdomain.ttl.seconds}")
+  private long tenantBySubdomainTtlSeconds;
+
+  @Value("${cache.tenant.by.subdomain.max.entries}")
+  private long tenantBySubdomainMaxEntries;
+
+  @Value("${cache.restricted.tenant.ttl.seconds}")
+  private long restrictedTenantTtlSeconds;
+
+  @Value("${cache.restricted.tenant.max.entries}")
+  private long restrictedTenantMaxEntries;
+
+  @Value("${cache.consulting.types.ttl.seconds}")
+  private long consultingTypesTtlSeconds;
+
+  @Value("${cache.consulting.types.max.entries}")
+  private long consultingTypesMaxEntries;
+
+  @Bean
+  public JCacheManagerCustomizer cacheManagerCustomizer() {
+    return cacheManager -> {
+      var xmlConfiguration = loadXmlConfiguration();
+      createCacheIfMissing(
+          cacheManager,
+          TENANT_BY_SUBDOMAIN_CACHE,
+          cacheConfigurationFromTemplate(
+                  xmlConfiguration, tenantBySubdomainTtlSeconds, tenantBySubdomainMaxEntries)
+              .withValueCopier(new TenantEntityCopier()));
+      createCacheIfMissing(
+          cacheManager,
+          xmlConfiguration,
+          RESTRICTED_TENANT_CACHE,
+          restrictedTenantTtlSeconds,
+          restrictedTenantMaxEntries);
+      createCacheIfMissing(
+          cacheManager,
+          xmlConfiguration,
+          CONSULTING_TYPES_CACHE,
+          consultingTypesTtlSeconds,
+          consultingTypesMaxEntries);
+    };
+  }
+
+  private XmlConfiguration loadXmlConfiguration() {
+    try {
+      return new XmlConfiguration(cacheConfiguration.getURL());
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not load cache configuration", e);
+    }
+  }
+
+  /**
+   * Creates a heap only cache based on the default template of the ehcache configuration. Cached
+   * values are not serializable entities, therefore offheap and disk tiers of the template are
+   * replaced. The cache manager may be shared between application contexts (e.g. in tests), so
+   * existing caches are reused. Statistics are enabled to expose hits and misses as cache metrics.
+   */
+  private void createCacheIfMissing(
+      CacheManager cacheManager,
+      XmlConfiguration xmlConfiguration,
+      String cacheName,
+      long ttlSeconds,
+      long maxEntries) {
+    createCacheIfMissing(
+        cacheManager,
+        cacheName,
+        cacheConfigurationFromTemplate(xmlConfiguration, ttlSeconds, maxEntries));
+  }
+
+  private void createCacheIfMissing(
+      CacheManager cacheManager,
+      String cacheName,
+      CacheConfigurationBuilder<Object, Object> cacheConfiguration) {
+    if (cacheManager.getCache(cacheName) == null) {
+      cacheManager.createCache(
+          cacheName, Eh107Configuration.fromEhcacheCacheConfiguration(cacheConfiguration.build()));
+      cacheManager.enableStatistics(cacheName, true);
+    }
+  }
+
+  private CacheConfigurationBuilder<Object, Object> cacheConfigurationFromTemplate(
+      XmlConfiguration xmlConfiguration, long ttlSeconds, long maxEntries) {
+    try {
+      return xmlConfiguration
+          .newCacheConfigurationBuilderFromTemplate(
+              DEFAULT_CACHE_TEMPLATE,
+              Object.class,
+              Object.class,
+              ResourcePoolsBuilder.heap(maxEntries))
+          .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create cache from template", e);
+    }
+  }
+}
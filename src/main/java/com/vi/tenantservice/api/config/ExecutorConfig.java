@@ -0,0 +1,68 @@
+package com.vi.tenantservice.api.config;
+
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+  public static final String SANITIZATION_EXECUTOR = "sanitizationExecutor";
+  public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+  public static final String REMOTE_CALL_EXECUTOR = "remoteCallExecutor";
+
+  @Value("${sanitizer.executor.pool.size}")
+  private int sanitizationPoolSize;
+
+  @Value("${sanitizer.executor.queue.capacity}")
+  private int sanitizationQueueCapacity;
+
+  @Value("${remote.call.executor.pool.size}")
+  private int remoteCallPoolSize;
+
+  @Value("${remote.call.executor.queue.capacity}")
+  private int remoteCallQueueCapacity;
+
+  /**
+   * Bounded executor for sanitizing translations in parallel. If the queue is full, the calling
+   * thread sanitizes the translation itself, so requests are slowed down instead of rejected.
+   */
+  @Bean(SANITIZATION_EXECUTOR)
+  public ThreadPoolTaskExecutor sanitizationExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(sanitizationPoolSize);
+    executor.setMaxPoolSize(sanitizationPoolSize);
+    executor.setQueueCapacity(sanitizationQueueCapacity);
+    executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+    executor.setThreadNamePrefix("sanitizer-");
+    return executor;
+  }
+
+  /** Executor for refreshing locally cached remote data in the background. */
+  @Bean(CACHE_REFRESH_EXECUTOR)
+  public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setThreadNamePrefix("cache-refresh-");
+    return executor;
+  }
+
+  /**
+   * Bounded executor for concurrent calls to other services. If the queue is full, the calling
+   * thread executes the call itself. The executing threads have no access to the current request,
+   * so headers, token and tenant of a call must be resolved before it is submitted.
+   */
+  @Bean(REMOTE_CALL_EXECUTOR)
+  public ThreadPoolTaskExecutor remoteCallExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(remoteCallPoolSize);
+    executor.setMaxPoolSize(remoteCallPoolSize);
+    executor.setQueueCapacity(remoteCallQueueCapacity);
+    executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+    executor.setThreadNamePrefix("remote-call-");
+    return executor;
+  }
+}
@@ -1,7 +1,6 @@
 package com.vi.tenantservice.api.config;
 
 import freemarker.cache.NullCacheStorage;
-import freemarker.cache.StringTemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateExceptionHandler;
@@ -17,10 +16,8 @@ public class FreeMarkerConfig {
     Configuration configuration = new FreeMarkerConfigurationFactoryBean().createConfiguration();
     // Set to ignore missing variables
     configuration.setTemplateExceptionHandler(TemplateExceptionHandler.IGNORE_HANDLER);
-    // do not use cache for templates, as template content is being changed at runtime
+    // templates are not loaded by name, compiled templates are cached by the TemplateRenderer
     configuration.setCacheStorage(NullCacheStorage.INSTANCE);
-    StringTemplateLoader stringTemplateLoader = new StringTemplateLoader();
-    configuration.setTemplateLoader(stringTemplateLoader);
     return configuration;
   }
 }
@@ -0,0 +1,22 @@
+package com.vi.tenantservice.api.config;
+
+import com.vi.tenantservice.api.converter.RestrictedTenantHttpMessageConverter;
+import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class HttpMessageConverterConfig implements WebMvcConfigurer {
+
+  private final @NonNull RestrictedTenantHttpMessageConverter restrictedTenantHttpMessageConverter;
+
+  /** The public tenant data converter has to be used instead of the generic json converter. */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(0, restrictedTenantHttpMessageConverter);
+  }
+}
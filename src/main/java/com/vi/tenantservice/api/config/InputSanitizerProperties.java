@@ -0,0 +1,38 @@
+package com.vi.tenantservice.api.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Additional html sanitizer policies and the policies of tenant fields, e.g.
+ *
+ * <pre>
+ * sanitizer.policies.definitions.headline.allowed-elements=b,i,a
+ * sanitizer.policies.definitions.headline.allowed-attributes.a=href
+ * sanitizer.policies.definitions.headline.allow-standard-url-protocols=true
+ * sanitizer.policies.fields.claim=headline
+ * </pre>
+ *
+ * <p>Fields without a configured policy are sanitized with their built-in policy.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "sanitizer.policies")
+public class InputSanitizerProperties {
+
+  private Map<String, PolicyDefinition> definitions = new HashMap<>();
+  private Map<String, String> fields = new HashMap<>();
+
+  @Data
+  public static class PolicyDefinition {
+
+    private boolean allowStyling;
+    private boolean allowStandardUrlProtocols;
+    private List<String> allowedElements = List.of();
+    private Map<String, List<String>> allowedAttributes = new HashMap<>();
+  }
+}
@@ -0,0 +1,74 @@
+package com.vi.tenantservice.api.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Connection pool and timeout settings of the http clients calling the downstream services. The
+ * defaults apply to every service and may be overridden per service, e.g.
+ *
+ * <pre>
+ * rest.client.defaults.max-connections-per-route=20
+ * rest.client.services.user-admin-service.response-timeout=10s
+ * </pre>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "rest.client")
+public class RestClientProperties {
+
+  private ClientSettings defaults = new ClientSettings();
+  private Map<String, ClientSettings> services = new HashMap<>();
+
+  /**
+   * Get the settings of a service, falling back to the defaults for every value which is not set
+   * for the service.
+   *
+   * @param serviceName the name of the service
+   * @return the settings of the service
+   */
+  public ClientSettings getSettings(String serviceName) {
+    var serviceSettings = services.get(serviceName);
+    return serviceSettings == null ? defaults : serviceSettings.withDefaults(defaults);
+  }
+
+  @Data
+  public static class ClientSettings {
+
+    private Integer maxConnectionsTotal;
+    private Integer maxConnectionsPerRoute;
+    private Duration connectTimeout;
+    private Duration connectionRequestTimeout;
+    private Duration responseTimeout;
+    private Duration idleEvictionTimeout;
+    private Duration connectionTimeToLive;
+    private Duration validateAfterInactivity;
+
+    ClientSettings withDefaults(ClientSettings defaults) {
+      var settings = new ClientSettings();
+      settings.setMaxConnectionsTotal(
+          valueOrDefault(maxConnectionsTotal, defaults.maxConnectionsTotal));
+      settings.setMaxConnectionsPerRoute(
+          valueOrDefault(maxConnectionsPerRoute, defaults.maxConnectionsPerRoute));
+      settings.setConnectTimeout(valueOrDefault(connectTimeout, defaults.connectTimeout));
+      settings.setConnectionRequestTimeout(
+          valueOrDefault(connectionRequestTimeout, defaults.connectionRequestTimeout));
+      settings.setResponseTimeout(valueOrDefault(responseTimeout, defaults.responseTimeout));
+      settings.setIdleEvictionTimeout(
+          valueOrDefault(idleEvictionTimeout, defaults.idleEvictionTimeout));
+      settings.setConnectionTimeToLive(
+          valueOrDefault(connectionTimeToLive, defaults.connectionTimeToLive));
+      settings.setValidateAfterInactivity(
+          valueOrDefault(validateAfterInactivity, defaults.validateAfterInactivity));
+      return settings;
+    }
+
+    private static <T> T valueOrDefault(T value, T defaultValue) {
+      return value != null ? value : defaultValue;
+    }
+  }
+}
@@ -1,14 +1,49 @@
 package com.vi.tenantservice.api.config;
 
+import com.vi.tenantservice.api.config.RestClientProperties.ClientSettings;
+import com.vi.tenantservice.api.config.apiclient.DownstreamHeadersInterceptor;
+import com.vi.tenantservice.api.metrics.HttpClientPoolMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-/** Contains the rest template configuration. */
+/**
+ * Contains the rest template configuration. Every downstream service gets its own rest template
+ * with a pooled http client, so a slow service cannot exhaust the connections of the others.
+ */
 @Configuration
+@RequiredArgsConstructor
+@Slf4j
 public class RestTemplateConfig {
 
+  public static final String CONSULTING_TYPE_SERVICE = "consulting-type-service";
+  public static final String USER_ADMIN_SERVICE = "user-admin-service";
+  public static final String APPLICATION_SETTINGS_SERVICE = "application-settings-service";
+
+  private static final String DEFAULT_CLIENT = "default";
+
+  private final @NonNull RestClientProperties restClientProperties;
+
+  private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
   /**
    * RestTemplate Bean.
    *
@@ -16,7 +51,97 @@ public class RestTemplateConfig {
    * @return {@link RestTemplate}
    */
   @Bean
+  @Primary
   public RestTemplate restTemplate(RestTemplateBuilder builder) {
-    return builder.errorHandler(new CustomResponseErrorHandler()).build();
+    return buildRestTemplate(builder, DEFAULT_CLIENT, restClientProperties.getDefaults());
+  }
+
+  @Bean
+  @Qualifier(CONSULTING_TYPE_SERVICE)
+  public RestTemplate consultingTypeServiceRestTemplate(RestTemplateBuilder builder) {
+    return buildRestTemplate(builder, CONSULTING_TYPE_SERVICE);
+  }
+
+  @Bean
+  @Qualifier(USER_ADMIN_SERVICE)
+  public RestTemplate userAdminServiceRestTemplate(RestTemplateBuilder builder) {
+    return buildRestTemplate(builder, USER_ADMIN_SERVICE);
+  }
+
+  @Bean
+  @Qualifier(APPLICATION_SETTINGS_SERVICE)
+  public RestTemplate applicationSettingsServiceRestTemplate(RestTemplateBuilder builder) {
+    return buildRestTemplate(builder, APPLICATION_SETTINGS_SERVICE);
+  }
+
+  @PreDestroy
+  public void closeHttpClients() {
+    httpClients.forEach(httpClient -> httpClient.close(CloseMode.GRACEFUL));
+  }
+
+  private RestTemplate buildRestTemplate(RestTemplateBuilder builder, String serviceName) {
+    return buildRestTemplate(builder, serviceName, restClientProperties.getSettings(serviceName));
+  }
+
+  private RestTemplate buildRestTemplate(
+      RestTemplateBuilder builder, String clientName, ClientSettings settings) {
+    var httpClient = createHttpClient(clientName, settings);
+    return builder
+        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+        .errorHandler(new CustomResponseErrorHandler())
+        .additionalInterceptors(new DownstreamHeadersInterceptor())
+        .build();
+  }
+
+  private CloseableHttpClient createHttpClient(String clientName, ClientSettings settings) {
+    var connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder.create();
+    if (settings.getMaxConnectionsTotal() != null) {
+      connectionManagerBuilder.setMaxConnTotal(settings.getMaxConnectionsTotal());
+    }
+    if (settings.getMaxConnectionsPerRoute() != null) {
+      connectionManagerBuilder.setMaxConnPerRoute(settings.getMaxConnectionsPerRoute());
+    }
+    if (settings.getConnectionTimeToLive() != null) {
+      connectionManagerBuilder.setConnectionTimeToLive(
+          toTimeValue(settings.getConnectionTimeToLive()));
+    }
+    if (settings.getValidateAfterInactivity() != null) {
+      connectionManagerBuilder.setValidateAfterInactivity(
+          toTimeValue(settings.getValidateAfterInactivity()));
+    }
+    var connectionManager = connectionManagerBuilder.build();
+    HttpClientPoolMetrics.bind(clientName, connectionManager);
+
+    var requestConfig = RequestConfig.custom();
+    if (settings.getConnectTimeout() != null) {
+      requestConfig.setConnectTimeout(toTimeout(settings.getConnectTimeout()));
+    }
+    if (settings.getConnectionRequestTimeout() != null) {
+      requestConfig.setConnectionRequestTimeout(toTimeout(settings.getConnectionRequestTimeout()));
+    }
+    if (settings.getResponseTimeout() != null) {
+      requestConfig.setResponseTimeout(toTimeout(settings.getResponseTimeout()));
+    }
+
+    var httpClientBuilder =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig.build())
+            .evictExpiredConnections();
+    if (settings.getIdleEvictionTimeout() != null) {
+      httpClientBuilder.evictIdleConnections(toTimeValue(settings.getIdleEvictionTimeout()));
+    }
+    var httpClient = httpClientBuilder.build();
+    httpClients.add(httpClient);
+    log.info("Created http client {} with {}", clientName, settings);
+    return httpClient;
+  }
+
+  private static TimeValue toTimeValue(Duration duration) {
+    return TimeValue.ofMilliseconds(duration.toMillis());
+  }
+
+  private static Timeout toTimeout(Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
   }
 }
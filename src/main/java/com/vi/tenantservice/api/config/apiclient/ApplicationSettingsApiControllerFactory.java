@@ -1,23 +1,40 @@
 package com.vi.tenantservice.api.config.apiclient;
 
+import static com.vi.tenantservice.api.config.RestTemplateConfig.APPLICATION_SETTINGS_SERVICE;
+
 import com.vi.tenantservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Provides the application settings api. The api is created once and shared, request specific
+ * headers are added by the {@link DownstreamHeadersInterceptor}.
+ */
 @Component
 public class ApplicationSettingsApiControllerFactory {
 
   @Value("${consulting.type.service.api.url}")
   private String applicationsettingsServiceApiUrl;
 
-  @Autowired private RestTemplate restTemplate;
+  @Autowired
+  @Qualifier(APPLICATION_SETTINGS_SERVICE)
+  private RestTemplate restTemplate;
+
+  private ApplicationsettingsControllerApi controllerApi;
 
-  public ApplicationsettingsControllerApi createControllerApi() {
+  @PostConstruct
+  public void init() {
     var apiClient =
         new ApplicationSettingsApiClient(restTemplate)
             .setBasePath(this.applicationsettingsServiceApiUrl);
-    return new ApplicationsettingsControllerApi(apiClient);
+    controllerApi = new ApplicationsettingsControllerApi(apiClient);
+  }
+
+  public ApplicationsettingsControllerApi getControllerApi() {
+    return controllerApi;
   }
 }
@@ -1,22 +1,39 @@
 package com.vi.tenantservice.api.config.apiclient;
 
+import static com.vi.tenantservice.api.config.RestTemplateConfig.CONSULTING_TYPE_SERVICE;
+
 import com.vi.tenantservice.consultingtypeservice.generated.ApiClient;
 import com.vi.tenantservice.consultingtypeservice.generated.web.ConsultingTypeControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Provides the consulting type service api. The api is created once and shared, request specific
+ * headers are added by the {@link DownstreamHeadersInterceptor}.
+ */
 @Component
 public class ConsultingTypeServiceApiControllerFactory {
 
   @Value("${consulting.type.service.api.url}")
   private String consultingTypeServiceApiUrl;
 
-  @Autowired private RestTemplate restTemplate;
+  @Autowired
+  @Qualifier(CONSULTING_TYPE_SERVICE)
+  private RestTemplate restTemplate;
+
+  private ConsultingTypeControllerApi controllerApi;
 
-  public ConsultingTypeControllerApi createControllerApi() {
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.consultingTypeServiceApiUrl);
-    return new ConsultingTypeControllerApi(apiClient);
+    controllerApi = new ConsultingTypeControllerApi(apiClient);
+  }
+
+  public ConsultingTypeControllerApi getControllerApi() {
+    return controllerApi;
   }
 }
@@ -0,0 +1,59 @@
+package com.vi.tenantservice.api.config.apiclient;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Adds the headers of the current downstream call (CSRF, Bearer token, tenantId) to the outgoing
+ * request. The generated api clients are shared between threads, so the headers are bound to the
+ * calling thread for the duration of a call instead of being set as default headers of the client.
+ */
+public class DownstreamHeadersInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final ThreadLocal<HttpHeaders> CURRENT_HEADERS = new ThreadLocal<>();
+
+  /**
+   * Run a downstream call with the given headers.
+   *
+   * @param headers the headers to add to every request of the call
+   * @param call the call to run
+   * @return the result of the call
+   */
+  public static <T> T withHeaders(HttpHeaders headers, Supplier<T> call) {
+    var previousHeaders = CURRENT_HEADERS.get();
+    CURRENT_HEADERS.set(headers);
+    try {
+      return call.get();
+    } finally {
+      if (previousHeaders == null) {
+        CURRENT_HEADERS.remove();
+      } else {
+        CURRENT_HEADERS.set(previousHeaders);
+      }
+    }
+  }
+
+  public static void withHeaders(HttpHeaders headers, Runnable call) {
+    withHeaders(
+        headers,
+        () -> {
+          call.run();
+          return null;
+        });
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    var headers = CURRENT_HEADERS.get();
+    if (headers != null) {
+      headers.forEach(request.getHeaders()::putIfAbsent);
+    }
+    return execution.execute(request, body);
+  }
+}
@@ -1,22 +1,39 @@
 package com.vi.tenantservice.api.config.apiclient;
 
+import static com.vi.tenantservice.api.config.RestTemplateConfig.USER_ADMIN_SERVICE;
+
 import com.vi.tenantservice.useradminservice.generated.ApiClient;
 import com.vi.tenantservice.useradminservice.generated.web.AdminUserControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Provides the user admin service api. The api is created once and shared, request specific headers
+ * are added by the {@link DownstreamHeadersInterceptor}.
+ */
 @Component
 public class UserAdminServiceApiControllerFactory {
 
   @Value("${user.service.api.url}")
   private String userServiceApiUrl;
 
-  @Autowired private RestTemplate restTemplate;
+  @Autowired
+  @Qualifier(USER_ADMIN_SERVICE)
+  private RestTemplate restTemplate;
+
+  private AdminUserControllerApi controllerApi;
 
-  public AdminUserControllerApi createControllerApi() {
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.userServiceApiUrl);
-    return new AdminUserControllerApi(apiClient);
+    controllerApi = new AdminUserControllerApi(apiClient);
+  }
+
+  public AdminUserControllerApi getControllerApi() {
+    return controllerApi;
   }
 }
@@ -1,5 +1,6 @@
 package com.vi.tenantservice.api.controller;
 
+import com.vi.tenantservice.api.converter.RestrictedTenantHttpMessageConverter;
 import com.vi.tenantservice.api.facade.TenantServiceFacade;
 import com.vi.tenantservice.api.model.AdminTenantDTO;
 import com.vi.tenantservice.api.model.BasicTenantLicensingDTO;
@@ -7,24 +8,35 @@ import com.vi.tenantservice.api.model.MultilingualTenantDTO;
 import com.vi.tenantservice.api.model.RestrictedTenantDTO;
 import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantsSearchResultDTO;
+import com.vi.tenantservice.api.model.ThemingAsset;
+import com.vi.tenantservice.api.model.VersionedRestrictedTenant;
 import com.vi.tenantservice.config.security.AuthorisationService;
 import com.vi.tenantservice.generated.api.controller.TenantApi;
 import com.vi.tenantservice.generated.api.controller.TenantadminApi;
 import io.swagger.annotations.Api;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /** Controller for tenant API operations. */
 @RestController
@@ -33,9 +45,20 @@ import org.springframework.web.context.request.NativeWebRequest;
 @Slf4j
 public class TenantController implements TenantApi, TenantadminApi {
 
+  /** Theming images are shown as images only, scripts of svg images must never be executed. */
+  private static final String THEMING_ASSET_CONTENT_SECURITY_POLICY =
+      "default-src 'none'; style-src 'unsafe-inline'; sandbox";
+
   private final @NonNull TenantServiceFacade tenantServiceFacade;
   private final @NonNull AuthorisationService authorisationService;
   private final @NonNull TenantDtoMapper tenantDtoMapper;
+  private final @NonNull NativeWebRequest request;
+
+  @Value("${theming.assets.versioned.max.age.seconds}")
+  private long versionedThemingAssetMaxAgeSeconds;
+
+  @Value("${theming.assets.unversioned.max.age.seconds}")
+  private long unversionedThemingAssetMaxAgeSeconds;
 
   @Override
   @PreAuthorize("hasAuthority('AUTHORIZATION_GET_TENANT')")
@@ -86,37 +109,99 @@ public class TenantController implements TenantApi, TenantadminApi {
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedTenantDataBySubdomain(
       String subdomain, Long tenantId) {
-    var tenantById = tenantServiceFacade.findTenantBySubdomain(subdomain, tenantId);
+    var tenantById = tenantServiceFacade.findVersionedTenantBySubdomain(subdomain, tenantId);
     return tenantById.isEmpty()
         ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
-        : new ResponseEntity<>(tenantById.get(), HttpStatus.OK);
+        : restrictedTenantResponse(tenantById.get());
   }
 
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedTenantDataByTenantId(Long tenantId) {
-    var tenantById = tenantServiceFacade.findRestrictedTenantById(tenantId);
+    var tenantById = tenantServiceFacade.findVersionedRestrictedTenantById(tenantId);
     return tenantById.isEmpty()
         ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
-        : new ResponseEntity<>(tenantById.get(), HttpStatus.OK);
+        : restrictedTenantResponse(tenantById.get());
+  }
+
+  /**
+   * Serves a theming image with a strong etag, so conditional requests are answered with 304 and
+   * range requests with 206 by spring. Requests for a versioned url may be cached permanently, as
+   * the version changes with every change of the tenant.
+   */
+  @Override
+  public ResponseEntity<Resource> getTenantThemingAsset(Long tenantId, String asset, String v) {
+    var themingAsset = tenantServiceFacade.findThemingAsset(tenantId, asset);
+    return themingAsset.isEmpty()
+        ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
+        : themingAssetResponse(themingAsset.get(), v);
+  }
+
+  /**
+   * Only a request for the current version of the asset may be cached permanently. Requests without
+   * or with an outdated version get a short max age, so a wrong version never pins an image.
+   */
+  private ResponseEntity<Resource> themingAssetResponse(
+      ThemingAsset themingAsset, String requestedVersion) {
+    return ResponseEntity.ok()
+        .header(
+            HttpHeaders.CACHE_CONTROL,
+            themingAssetCacheControl(themingAsset.getVersion().equals(requestedVersion)))
+        .header("Content-Security-Policy", THEMING_ASSET_CONTENT_SECURITY_POLICY)
+        .eTag(themingAsset.getETag())
+        .contentType(MediaType.parseMediaType(themingAsset.getMediaType()))
+        .body(new ByteArrayResource(themingAsset.getContent()));
+  }
+
+  private String themingAssetCacheControl(boolean versioned) {
+    if (versioned) {
+      return CacheControl.maxAge(Duration.ofSeconds(versionedThemingAssetMaxAgeSeconds))
+              .cachePublic()
+              .getHeaderValue()
+          + ", immutable";
+    }
+    return CacheControl.maxAge(Duration.ofSeconds(unversionedThemingAssetMaxAgeSeconds))
+        .cachePublic()
+        .getHeaderValue();
   }
 
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedSingleTenancyTenantData() {
-    var singleTenant = tenantServiceFacade.getSingleTenant();
+    var singleTenant = tenantServiceFacade.getVersionedSingleTenant();
     return singleTenant.isEmpty()
         ? new ResponseEntity<>(HttpStatus.BAD_REQUEST)
-        : new ResponseEntity<>(singleTenant.get(), HttpStatus.OK);
+        : restrictedTenantResponse(singleTenant.get());
   }
 
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedTenantData() {
-    var tenantData = tenantServiceFacade.getRestrictedTenantDataDeterminingTenantContext();
-    return new ResponseEntity<>(tenantData, HttpStatus.OK);
+    var tenantData = tenantServiceFacade.getVersionedRestrictedTenantDataDeterminingTenantContext();
+    return restrictedTenantResponse(tenantData);
+  }
+
+  /**
+   * Answers conditional requests for public tenant data with 304 before the tenant is converted.
+   * The data depends on the language and tenant cookies, so it may only be cached by the browser
+   * and has to be revalidated on every use. Only the ETag is used for validation, as it covers the
+   * language and content templates, which the update date of the tenant does not. Gzip and identity
+   * bodies carry different etags, so a 304 is only sent for the encoding the client asked for.
+   */
+  private ResponseEntity<RestrictedTenantDTO> restrictedTenantResponse(
+      VersionedRestrictedTenant tenant) {
+    var eTag = RestrictedTenantHttpMessageConverter.representationETag(tenant.getETag());
+    var notModified =
+        new ServletWebRequest(request.getNativeRequest(HttpServletRequest.class))
+            .checkNotModified(eTag);
+    var response =
+        ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+            .eTag(eTag)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .cacheControl(CacheControl.noCache().cachePrivate());
+    return notModified ? response.build() : response.body(tenant.getRestrictedTenant());
   }
 
   @Override
   public Optional<NativeWebRequest> getRequest() {
-    return Optional.empty();
+    return Optional.of(request);
   }
 
   @Override
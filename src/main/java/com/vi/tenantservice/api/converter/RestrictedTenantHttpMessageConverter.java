@@ -0,0 +1,186 @@
+package com.vi.tenantservice.api.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Writes public tenant data from a cache of serialized bodies. Bodies are cached by the etag of the
+ * response, so repeated requests for an unchanged tenant skip the json serialization and, for
+ * clients accepting gzip, the compression. A gzip body differs from the identity body byte for
+ * byte, so it is sent with an own strong etag carrying a {@code -gzip} suffix. Responses without
+ * etag are serialized on every request.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestrictedTenantHttpMessageConverter
+    extends AbstractHttpMessageConverter<RestrictedTenantDTO> {
+
+  private static final String GZIP = "gzip";
+  private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+  private final @NonNull ObjectMapper objectMapper;
+
+  @Value("${cache.serialized.restricted.tenant.max.bytes}")
+  private long maxCachedBytes;
+
+  @Value("${cache.serialized.restricted.tenant.ttl.seconds}")
+  private long cachedBodyTtlSeconds;
+
+  private Cache<String, byte[]> serializedBodies;
+
+  @PostConstruct
+  public void init() {
+    setSupportedMediaTypes(List.of(MediaType.APPLICATION_JSON));
+    serializedBodies =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxCachedBytes)
+            .<String, byte[]>weigher((key, body) -> body.length)
+            .expireAfterWrite(Duration.ofSeconds(cachedBodyTtlSeconds))
+            .build();
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return RestrictedTenantDTO.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected RestrictedTenantDTO readInternal(
+      Class<? extends RestrictedTenantDTO> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Public tenant data is not accepted as input", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(
+      RestrictedTenantDTO restrictedTenant, HttpOutputMessage outputMessage) throws IOException {
+    var headers = outputMessage.getHeaders();
+    var eTag = headers.getETag();
+    if (eTag == null) {
+      StreamUtils.copy(serialize(restrictedTenant), outputMessage.getBody());
+      return;
+    }
+
+    if (!headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+      headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    var identityETag = identityETag(eTag);
+    byte[] body;
+    if (acceptsGzip()) {
+      var gzipETag = gzipETag(identityETag);
+      headers.setETag(gzipETag);
+      headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+      body = cachedBody(gzipETag, () -> gzip(cachedBody(identityETag, restrictedTenant)));
+    } else {
+      headers.setETag(identityETag);
+      body = cachedBody(identityETag, restrictedTenant);
+    }
+    headers.setContentLength(body.length);
+    StreamUtils.copy(body, outputMessage.getBody());
+  }
+
+  private byte[] cachedBody(String key, RestrictedTenantDTO restrictedTenant) throws IOException {
+    return cachedBody(key, () -> serialize(restrictedTenant));
+  }
+
+  private byte[] cachedBody(String key, BodyWriter bodyWriter) throws IOException {
+    try {
+      return serializedBodies.get(key, bodyWriter::write);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new HttpMessageNotWritableException("Could not write tenant", e.getCause());
+    }
+  }
+
+  private byte[] serialize(RestrictedTenantDTO restrictedTenant) throws IOException {
+    return objectMapper.writeValueAsBytes(restrictedTenant);
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    var compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+    try (var gzipOutputStream = new GZIPOutputStream(compressed)) {
+      gzipOutputStream.write(body);
+    }
+    return compressed.toByteArray();
+  }
+
+  /**
+   * Returns the etag of the body written for the current request, so conditional requests can be
+   * compared against the etag of the encoding the client actually receives.
+   */
+  public static String representationETag(String eTag) {
+    return acceptsGzip() ? gzipETag(identityETag(eTag)) : identityETag(eTag);
+  }
+
+  private static String gzipETag(String identityETag) {
+    return identityETag.endsWith("\"")
+        ? identityETag.substring(0, identityETag.length() - 1) + GZIP_ETAG_SUFFIX + "\""
+        : identityETag + GZIP_ETAG_SUFFIX;
+  }
+
+  private static String identityETag(String eTag) {
+    return eTag.replace(GZIP_ETAG_SUFFIX, "");
+  }
+
+  private static boolean acceptsGzip() {
+    if (!(RequestContextHolder.getRequestAttributes()
+        instanceof ServletRequestAttributes requestAttributes)) {
+      return false;
+    }
+    HttpServletRequest request = requestAttributes.getRequest();
+    var acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    return acceptEncoding != null
+        && Arrays.stream(acceptEncoding.split(","))
+            .map(String::trim)
+            .anyMatch(RestrictedTenantHttpMessageConverter::isAcceptedGzip);
+  }
+
+  private static boolean isAcceptedGzip(String encoding) {
+    var parts = encoding.split(";");
+    if (!GZIP.equalsIgnoreCase(parts[0].trim())) {
+      return false;
+    }
+    return Arrays.stream(parts)
+        .skip(1)
+        .map(String::trim)
+        .noneMatch(parameter -> parameter.matches("q=0(\\.0{0,3})?"));
+  }
+
+  @FunctionalInterface
+  private interface BodyWriter {
+    byte[] write() throws IOException;
+  }
+}
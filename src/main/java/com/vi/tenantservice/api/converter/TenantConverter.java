@@ -1,5 +1,6 @@
 package com.vi.tenantservice.api.converter;
 
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_CACHE;
 import static com.vi.tenantservice.api.converter.ConverterUtils.nullAsFalse;
 import static com.vi.tenantservice.api.converter.ConverterUtils.nullAsGerman;
 import static com.vi.tenantservice.api.model.DataProtectionPlaceHolderType.DATA_PROTECTION_OFFICER;
@@ -22,18 +23,22 @@ import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantEntity;
 import com.vi.tenantservice.api.model.TenantEntity.TenantEntityBuilder;
 import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.model.TenantSummary;
 import com.vi.tenantservice.api.model.Theming;
-import com.vi.tenantservice.api.service.TemplateDescriptionServiceException;
+import com.vi.tenantservice.api.model.ThemingAssetType;
 import com.vi.tenantservice.api.service.TemplateRenderer;
 import com.vi.tenantservice.api.service.TemplateService;
-import com.vi.tenantservice.api.util.JsonConverter;
+import com.vi.tenantservice.api.service.ThemingAssetService;
 import freemarker.template.TemplateException;
 import java.io.IOException;
 import java.util.Map;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -47,6 +52,12 @@ public class TenantConverter {
 
   private final @NonNull TemplateRenderer templateRenderer;
 
+  @Value("${theming.assets.url.prefix}")
+  private String themingAssetUrlPrefix;
+
+  @Value("${theming.assets.omit.inline.images}")
+  private boolean omitInlineThemingImages;
+
   public TenantEntity toEntity(MultilingualTenantDTO tenantDTO) {
     var builder =
         TenantEntity.builder()
@@ -135,7 +146,7 @@ public class TenantConverter {
             .id(tenant.getId())
             .subdomain(tenant.getSubdomain())
             .content(toMultilingualContentDTO(tenant))
-            .theming(toThemingDTO(tenant))
+            .theming(toThemingDTO(tenant, true))
             .licensing(toLicensingDTO(tenant))
             .settings(getSettings(tenant));
     if (tenant.getCreateDate() != null) {
@@ -151,7 +162,7 @@ public class TenantConverter {
     var tenantDTO =
         new TenantDTO(tenant.getId(), tenant.getName(), tenant.getSubdomain())
             .content(toContentDTO(tenant, lang))
-            .theming(toThemingDTO(tenant))
+            .theming(toThemingDTO(tenant, !omitInlineThemingImages))
             .licensing(toLicensingDTO(tenant))
             .settings(getSettings(tenant));
     if (tenant.getCreateDate() != null) {
@@ -167,12 +178,11 @@ public class TenantConverter {
     if (tenant.getSettings() == null) {
       return new Settings();
     } else {
-      return getSettingsIfNotNull(tenant.getSettings());
+      return getSettingsIfNotNull(tenant.getParsedSettings());
     }
   }
 
-  private Settings getSettingsIfNotNull(String settingsJson) {
-    TenantSettings tenantSettings = JsonConverter.convertFromJson(settingsJson);
+  private Settings getSettingsIfNotNull(TenantSettings tenantSettings) {
     return new Settings()
         .topicsInRegistrationEnabled(tenantSettings.isTopicsInRegistrationEnabled())
         .featureDemographicsEnabled(tenantSettings.isFeatureDemographicsEnabled())
@@ -190,18 +200,42 @@ public class TenantConverter {
         .activeLanguages(nullAsGerman(tenantSettings.getActiveLanguages()));
   }
 
+  /**
+   * Converts the tenant into its public representation. The result is cached by {@link
+   * #toRestrictedTenantVersion}, the version the etag is built from, so a conversion still running
+   * while the templates are reloaded cannot cache outdated content under the new version. Callers
+   * must not modify the returned object.
+   */
+  @Cacheable(
+      cacheNames = RESTRICTED_TENANT_CACHE,
+      key = "#root.target.toRestrictedTenantVersion(#tenant, #lang)")
   public RestrictedTenantDTO toRestrictedTenantDTO(TenantEntity tenant, String lang) {
     return new RestrictedTenantDTO(tenant.getId(), tenant.getName())
         .content(toContentDTO(tenant, lang))
-        .theming(toThemingDTO(tenant))
+        .theming(toThemingDTO(tenant, !omitInlineThemingImages))
         .subdomain(tenant.getSubdomain())
         .settings(getSettings(tenant));
   }
 
-  public BasicTenantLicensingDTO toBasicLicensingTenantDTO(TenantEntity tenant) {
+  /**
+   * Get the version of the public representation of the tenant, which changes whenever {@link
+   * #toRestrictedTenantDTO} would return a different result. It is determined without converting
+   * the tenant.
+   */
+  public String toRestrictedTenantVersion(TenantEntity tenant, String lang) {
+    return tenant.getId()
+        + ":"
+        + tenant.getUpdateDate()
+        + ":"
+        + lang
+        + ":"
+        + templateService.getDataProtectionTemplatesVersion();
+  }
+
+  public BasicTenantLicensingDTO toBasicLicensingTenantDTO(TenantSummary tenant) {
     var basicTenantLicensingDTO =
         new BasicTenantLicensingDTO(tenant.getId(), tenant.getName(), tenant.getSubdomain())
-            .licensing(toLicensingDTO(tenant));
+            .licensing(new Licensing(tenant.getLicensingAllowedNumberOfUsers()));
 
     if (tenant.getCreateDate() != null) {
       basicTenantLicensingDTO.setCreateDate(tenant.getCreateDate().toString());
@@ -216,13 +250,45 @@ public class TenantConverter {
     return new Licensing(tenant.getLicensingAllowedNumberOfUsers());
   }
 
-  private Theming toThemingDTO(TenantEntity tenant) {
-    return new Theming()
-        .favicon(tenant.getThemingFavicon())
-        .logo(tenant.getThemingLogo())
-        .associationLogo(tenant.getThemingAssociationLogo())
-        .primaryColor(tenant.getThemingPrimaryColor())
-        .secondaryColor(tenant.getThemingSecondaryColor());
+  /**
+   * Converts the theming. The multilingual representation used for editing always contains the
+   * base64 encoded images, the other representations may omit them in favour of the asset urls.
+   */
+  private Theming toThemingDTO(TenantEntity tenant, boolean withInlineImages) {
+    var theming =
+        new Theming()
+            .primaryColor(tenant.getThemingPrimaryColor())
+            .secondaryColor(tenant.getThemingSecondaryColor())
+            .faviconUrl(
+                toThemingAssetUrl(tenant, ThemingAssetType.FAVICON, tenant.getThemingFavicon()))
+            .logoUrl(toThemingAssetUrl(tenant, ThemingAssetType.LOGO, tenant.getThemingLogo()))
+            .associationLogoUrl(
+                toThemingAssetUrl(
+                    tenant, ThemingAssetType.ASSOCIATION_LOGO, tenant.getThemingAssociationLogo()));
+    if (withInlineImages) {
+      theming
+          .favicon(tenant.getThemingFavicon())
+          .logo(tenant.getThemingLogo())
+          .associationLogo(tenant.getThemingAssociationLogo());
+    }
+    return theming;
+  }
+
+  /**
+   * Get the url of a theming image. The url is versioned by the last change of the tenant, so the
+   * image may be cached permanently by browsers and proxies.
+   */
+  private String toThemingAssetUrl(
+      TenantEntity tenant, ThemingAssetType assetType, String encodedImage) {
+    if (StringUtils.isBlank(themingAssetUrlPrefix)
+        || tenant.getId() == null
+        || StringUtils.isBlank(encodedImage)) {
+      return null;
+    }
+    var url = themingAssetUrlPrefix + tenant.getId() + "/assets/" + assetType.getPathName();
+    var lastChange =
+        tenant.getUpdateDate() != null ? tenant.getUpdateDate() : tenant.getCreateDate();
+    return lastChange == null ? url : url + "?v=" + ThemingAssetService.versionOf(lastChange);
   }
 
   private Content toContentDTO(TenantEntity tenant, String lang) {
@@ -278,20 +344,7 @@ public class TenantConverter {
   }
 
   private DataProtectionContactTemplateDTO getDataProtectionContactTemplate(String lang) {
-    var map = getMultilingualDataProtectionTemplate();
-    if (map.containsKey(lang)) {
-      return map.get(lang);
-    }
-    return null;
-  }
-
-  private Map<String, DataProtectionContactTemplateDTO> getMultilingualDataProtectionTemplate() {
-    try {
-      return templateService.getMultilingualDataProtectionTemplate();
-    } catch (TemplateDescriptionServiceException e) {
-      log.error("Error while loading data protection contact template", e);
-    }
-    return Maps.newHashMap();
+    return templateService.getDataProtectionTemplate(lang).orElse(null);
   }
 
   private static String getTranslatedStringFromMap(String jsonValue, String lang) {
@@ -313,10 +366,10 @@ public class TenantConverter {
         .claim(convertMapFromJson(tenant.getContentClaim()))
         .privacy(convertMapFromJson(tenant.getContentPrivacy()))
         .termsAndConditions(convertMapFromJson(tenant.getContentTermsAndConditions()))
-        .dataProtectionContactTemplate(getMultilingualDataProtectionTemplate());
+        .dataProtectionContactTemplate(templateService.getMultilingualDataProtectionTemplate());
   }
 
-  public AdminTenantDTO toAdminTenantDTO(TenantEntity tenant) {
+  public AdminTenantDTO toAdminTenantDTO(TenantSummary tenant) {
     var adminTenantDTO =
         new AdminTenantDTO(tenant.getId(), tenant.getName(), tenant.getSubdomain())
             .beraterCount(tenant.getLicensingAllowedNumberOfUsers());
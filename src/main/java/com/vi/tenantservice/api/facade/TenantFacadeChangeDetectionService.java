@@ -136,7 +136,7 @@ public class TenantFacadeChangeDetectionService {
     if (existingTenant.getSettings() == null) {
       existingSettingsToCompare = new TenantSettings();
     } else {
-      existingSettingsToCompare = JsonConverter.convertFromJson(existingTenant.getSettings());
+      existingSettingsToCompare = existingTenant.getParsedSettings();
     }
     return existingSettingsToCompare;
   }
@@ -1,11 +1,14 @@
 package com.vi.tenantservice.api.facade;
 
+import static com.vi.tenantservice.api.config.ExecutorConfig.REMOTE_CALL_EXECUTOR;
 import static com.vi.tenantservice.api.util.JsonConverter.convertToJson;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.springframework.util.ObjectUtils.nullSafeEquals;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 import com.vi.tenantservice.api.authorisation.Authority.AuthorityValue;
 import com.vi.tenantservice.api.converter.ConsultingTypePatchDTOConverter;
 import com.vi.tenantservice.api.converter.TenantConverter;
@@ -18,13 +21,16 @@ import com.vi.tenantservice.api.model.BasicTenantLicensingDTO;
 import com.vi.tenantservice.api.model.ConsultingTypePatchDTO;
 import com.vi.tenantservice.api.model.MultilingualContent;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
-import com.vi.tenantservice.api.model.RestrictedTenantDTO;
 import com.vi.tenantservice.api.model.Settings;
 import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantEntity;
-import com.vi.tenantservice.api.model.TenantEntity.TenantBase;
+import com.vi.tenantservice.api.model.TenantSummary;
+import com.vi.tenantservice.api.model.ThemingAsset;
+import com.vi.tenantservice.api.model.ThemingAssetType;
+import com.vi.tenantservice.api.model.VersionedRestrictedTenant;
 import com.vi.tenantservice.api.service.SingleDomainTenantOverrideService;
 import com.vi.tenantservice.api.service.TenantService;
+import com.vi.tenantservice.api.service.ThemingAssetService;
 import com.vi.tenantservice.api.service.TranslationService;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
 import com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService;
@@ -35,6 +41,7 @@ import com.vi.tenantservice.api.validation.TenantInputSanitizer;
 import com.vi.tenantservice.config.security.AuthorisationService;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
 import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,13 +50,20 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.ws.rs.BadRequestException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -85,6 +99,14 @@ public class TenantServiceFacade {
 
   private final @NonNull SingleDomainTenantOverrideService singleDomainTenantOverrideService;
 
+  private final @NonNull ThemingAssetService themingAssetService;
+
+  @Qualifier(REMOTE_CALL_EXECUTOR)
+  private final @NonNull Executor remoteCallExecutor;
+
+  @Value("${remote.call.enrichment.timeout.millis}")
+  private long enrichmentTimeoutMillis;
+
   @Value("${feature.multitenancy.with.single.domain.enabled}")
   private boolean multitenancyWithSingleDomain;
 
@@ -166,7 +188,7 @@ public class TenantServiceFacade {
   }
 
   private boolean onlyTechnicalTenantExists() {
-    List<TenantEntity> tenants = tenantService.getAllTenants();
+    List<TenantSummary> tenants = tenantService.getAllTenantSummaries();
     return tenants.size() == 1 && tenants.get(0).getId().equals(0L);
   }
 
@@ -241,16 +263,22 @@ public class TenantServiceFacade {
     }
   }
 
-  private void updateExtendedSettingsAsConsultingType(
+  /**
+   * Patch the consulting type of the tenant if its extended settings changed.
+   *
+   * @return the current consulting types of the tenant
+   */
+  private FullConsultingTypeResponseDTO updateExtendedSettingsAsConsultingType(
       MultilingualTenantDTO sanitizedTenantDTO, Long tenantId) {
     FullConsultingTypeResponseDTO consultingTypesByTenantId =
-        consultingTypeService.getConsultingTypesByTenantId(tenantId.intValue());
+        consultingTypeService.getCurrentConsultingTypesByTenantId(tenantId.intValue());
 
     if (sanitizedTenantDTO.getSettings() != null
         && sanitizedTenantDTO.getSettings().getExtendedSettings() != null) {
       if (extendedTenantSettingsChanged(
           consultingTypesByTenantId, sanitizedTenantDTO.getSettings().getExtendedSettings())) {
-        consultingTypeService.patchConsultingType(
+        return consultingTypeService.patchConsultingType(
+            tenantId.intValue(),
             consultingTypesByTenantId.getId(),
             consultingTypePatchDTOConverter.convertToConsultingTypeServiceModel(
                 sanitizedTenantDTO.getSettings().getExtendedSettings()));
@@ -259,6 +287,7 @@ public class TenantServiceFacade {
             "Skipping consulting types update during tenant update, these settings did not change");
       }
     }
+    return consultingTypesByTenantId;
   }
 
   private boolean extendedTenantSettingsChanged(
@@ -278,9 +307,11 @@ public class TenantServiceFacade {
     var updatedEntity = tenantConverter.toEntity(existingTenantEntity, sanitizedTenantDTO);
     setContentActivationDates(updatedEntity, sanitizedTenantDTO);
     updatedEntity = tenantService.update(updatedEntity);
-    updateExtendedSettingsAsConsultingType(sanitizedTenantDTO, existingTenantEntity.getId());
+    var consultingTypes =
+        updateExtendedSettingsAsConsultingType(sanitizedTenantDTO, existingTenantEntity.getId());
     log.info("Tenant with id {} updated", existingTenantEntity.getId());
-    return getConvertedAndEnrichedTenant(updatedEntity);
+    return getConvertedAndEnrichedTenant(
+        updatedEntity, CompletableFuture.completedFuture(consultingTypes));
   }
 
   private void setContentActivationDates(TenantEntity entity, MultilingualTenantDTO tenantDTO) {
@@ -309,36 +340,101 @@ public class TenantServiceFacade {
                 tenantById.get(), translationService.getCurrentLanguageContext()));
   }
 
+  /**
+   * Convert the tenant and enrich it with its consulting type settings and, for superadmins, the
+   * emails of its admins. Both are requested concurrently. If a service does not answer within the
+   * enrichment timeout, the tenant is returned without the data of that service and the outstanding
+   * calls are cancelled.
+   */
   private MultilingualTenantDTO getConvertedAndEnrichedTenant(TenantEntity tenantEntity) {
+    return getConvertedAndEnrichedTenant(
+        tenantEntity, getConsultingTypesAsync(tenantEntity.getId().intValue()));
+  }
+
+  private MultilingualTenantDTO getConvertedAndEnrichedTenant(
+      TenantEntity tenantEntity, Future<FullConsultingTypeResponseDTO> pendingConsultingTypes) {
     var multilingualTenantDTO = tenantConverter.toMultilingualDTO(tenantEntity);
-    enrichWithAdminDataIfSuperadmin(multilingualTenantDTO);
-    enrichWithConsultingTypeSettings(multilingualTenantDTO, tenantEntity.getId());
+    var pendingTenantAdmins =
+        authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)
+            ? getTenantAdminsAsync(multilingualTenantDTO.getId().intValue())
+            : CompletableFuture.<List<AdminResponseDTO>>completedFuture(null);
+
+    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enrichmentTimeoutMillis);
+    try {
+      awaitEnrichment(pendingTenantAdmins, deadline, "admins", tenantEntity.getId())
+          .ifPresent(
+              tenantAdmins ->
+                  enrichWithAdminData(
+                      multilingualTenantDTO.getId().intValue(),
+                      tenantAdmins,
+                      multilingualTenantDTO::setAdminEmails));
+      awaitEnrichment(pendingConsultingTypes, deadline, "consulting types", tenantEntity.getId())
+          .ifPresent(
+              consultingTypes ->
+                  enrichWithConsultingTypeSettings(multilingualTenantDTO, consultingTypes));
+    } finally {
+      pendingTenantAdmins.cancel(true);
+      pendingConsultingTypes.cancel(true);
+    }
     return multilingualTenantDTO;
   }
 
-  private void enrichWithConsultingTypeSettings(
-      MultilingualTenantDTO multilingualTenantDTO, Long tenantId) {
-    FullConsultingTypeResponseDTO consultingTypesByTenantId =
-        consultingTypeService.getConsultingTypesByTenantId(tenantId.intValue());
-    if (consultingTypesByTenantId != null) {
-      multilingualTenantDTO
-          .getSettings()
-          .setExtendedSettings(
-              consultingTypePatchDTOConverter.convertConsultingTypePatchDTO(
-                  consultingTypesByTenantId));
-    }
+  private Future<List<AdminResponseDTO>> getTenantAdminsAsync(Integer tenantId) {
+    var headers = userAdminService.getDefaultHeaders();
+    return submitRemoteCall(() -> userAdminService.getTenantAdmins(tenantId, headers));
+  }
+
+  private Future<FullConsultingTypeResponseDTO> getConsultingTypesAsync(Integer tenantId) {
+    var headers = consultingTypeService.getDefaultHeaders();
+    return submitRemoteCall(
+        () -> consultingTypeService.getConsultingTypesByTenantId(tenantId, headers));
   }
 
-  private void enrichWithAdminDataIfSuperadmin(MultilingualTenantDTO multilingualTenantDTO) {
-    if (authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)) {
-      enrichWithAdminData(
-          multilingualTenantDTO.getId().intValue(), multilingualTenantDTO::setAdminEmails);
+  /**
+   * Submit a remote call to the remote call executor. Everything depending on the current request,
+   * like headers, token and tenant, must be resolved before, as the call runs on another thread.
+   */
+  private <T> Future<T> submitRemoteCall(Callable<T> remoteCall) {
+    var pendingRemoteCall = new FutureTask<>(remoteCall);
+    remoteCallExecutor.execute(pendingRemoteCall);
+    return pendingRemoteCall;
+  }
+
+  private <T> Optional<T> awaitEnrichment(
+      Future<T> pendingEnrichment, long deadline, String enrichment, Long tenantId) {
+    try {
+      return Optional.ofNullable(
+          pendingEnrichment.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+    } catch (TimeoutException e) {
+      log.warn(
+          "No {} of tenant {} received within {} ms, returning tenant without them",
+          enrichment,
+          tenantId,
+          enrichmentTimeoutMillis);
+      return Optional.empty();
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
     }
   }
 
+  private void enrichWithConsultingTypeSettings(
+      MultilingualTenantDTO multilingualTenantDTO,
+      FullConsultingTypeResponseDTO consultingTypesByTenantId) {
+    multilingualTenantDTO
+        .getSettings()
+        .setExtendedSettings(
+            consultingTypePatchDTOConverter.convertConsultingTypePatchDTO(
+                consultingTypesByTenantId));
+  }
+
   private void enrichWithAdminData(
-      final Integer tenantId, final Consumer<List<String>> setAdminEmailsConsumer) {
-    List<AdminResponseDTO> tenantAdmins = userAdminService.getTenantAdmins(tenantId);
+      final Integer tenantId,
+      final List<AdminResponseDTO> tenantAdmins,
+      final Consumer<List<String>> setAdminEmailsConsumer) {
     if (tenantAdmins != null && !tenantAdmins.isEmpty()) {
       log.debug("Enriching tenant with admin email data");
       setAdminEmailsConsumer.accept(getAdminEmails(tenantAdmins));
@@ -361,21 +457,24 @@ public class TenantServiceFacade {
         : Optional.of(getConvertedAndEnrichedTenant(tenantById.get()));
   }
 
-  public Optional<RestrictedTenantDTO> findRestrictedTenantById(Long id) {
+  public Optional<VersionedRestrictedTenant> findVersionedRestrictedTenantById(Long id) {
     var tenantById = tenantService.findTenantById(id);
 
     String lang = translationService.getCurrentLanguageContext();
-    return tenantById.isEmpty()
-        ? Optional.empty()
-        : Optional.of(tenantConverter.toRestrictedTenantDTO(tenantById.get(), lang));
+    return tenantById.map(tenant -> versionedRestrictedTenant(tenant, lang));
+  }
+
+  public Optional<ThemingAsset> findThemingAsset(Long tenantId, String asset) {
+    return ThemingAssetType.fromPathName(asset)
+        .flatMap(assetType -> themingAssetService.findThemingAsset(tenantId, assetType));
   }
 
   public List<BasicTenantLicensingDTO> getAllTenants() {
-    var tenantEntities = tenantService.getAllTenants();
-    return tenantEntities.stream().map(tenantConverter::toBasicLicensingTenantDTO).toList();
+    var tenants = tenantService.getAllTenantSummaries();
+    return tenants.stream().map(tenantConverter::toBasicLicensingTenantDTO).toList();
   }
 
-  public Optional<RestrictedTenantDTO> findTenantBySubdomain(
+  public Optional<VersionedRestrictedTenant> findVersionedTenantBySubdomain(
       String subdomain, Long optionalTenantIdOverride) {
     var tenantBySubdomain = tenantService.findTenantBySubdomain(subdomain);
     Optional<Long> tenantIdFromRequestOrCookie =
@@ -386,9 +485,7 @@ public class TenantServiceFacade {
     }
 
     String lang = translationService.getCurrentLanguageContext();
-    return tenantBySubdomain.isEmpty()
-        ? Optional.empty()
-        : Optional.of(tenantConverter.toRestrictedTenantDTO(tenantBySubdomain.get(), lang));
+    return tenantBySubdomain.map(tenant -> versionedRestrictedTenant(tenant, lang));
   }
 
   private Optional<Long> resolveFromRequestOrCookie(Long optionalTenantIdOverride) {
@@ -397,16 +494,16 @@ public class TenantServiceFacade {
         : tenantResolverService.tryResolveForNonAuthUsers();
   }
 
-  public RestrictedTenantDTO getRestrictedTenantDataDeterminingTenantContext() {
+  public VersionedRestrictedTenant getVersionedRestrictedTenantDataDeterminingTenantContext() {
     if (multitenancyWithSingleDomain) {
       return getRestrictedTenantDataWithOverrideForSingleDomainTenancy();
     } else {
       var tenantId = tenantResolverService.tryResolve().orElseThrow();
-      return findRestrictedTenantById(tenantId).orElseThrow();
+      return findVersionedRestrictedTenantById(tenantId).orElseThrow();
     }
   }
 
-  private RestrictedTenantDTO getRestrictedTenantDataWithOverrideForSingleDomainTenancy() {
+  private VersionedRestrictedTenant getRestrictedTenantDataWithOverrideForSingleDomainTenancy() {
     String mainTenantSubdomain =
         applicationSettingsService
             .getApplicationSettings()
@@ -415,11 +512,10 @@ public class TenantServiceFacade {
     var mainTenant = tenantService.findTenantBySubdomain(mainTenantSubdomain).orElseThrow();
     Long actualTenantId = tenantResolverService.tryResolve().orElseThrow();
     TenantEntity actualTenant = tenantService.findTenantById(actualTenantId).orElseThrow();
-    return singleDomainTenantOverrideService.overridePrivacyAndCertainSettings(
-        mainTenant, actualTenant);
+    return versionedRestrictedTenantWithOverride(mainTenant, actualTenant);
   }
 
-  public Optional<RestrictedTenantDTO> getTenantDataWithOverride(
+  private Optional<VersionedRestrictedTenant> getTenantDataWithOverride(
       Optional<TenantEntity> mainTenantForSingleDomainMultitenancy, Long resolvedTenantId) {
 
     Optional<TenantEntity> tenantToOverridePrivacy = tenantService.findTenantById(resolvedTenantId);
@@ -427,22 +523,52 @@ public class TenantServiceFacade {
       throw new BadRequestException("Tenant not found for id " + resolvedTenantId);
     }
     return Optional.of(
-        singleDomainTenantOverrideService.overridePrivacyAndCertainSettings(
+        versionedRestrictedTenantWithOverride(
             mainTenantForSingleDomainMultitenancy.orElseThrow(),
             tenantToOverridePrivacy.orElseThrow()));
   }
 
-  public Optional<RestrictedTenantDTO> getSingleTenant() {
-    var tenantEntities = tenantService.getAllTenants();
-    if (tenantEntities != null && tenantEntities.size() == 1) {
-      var tenantEntity = tenantEntities.get(0);
+  public Optional<VersionedRestrictedTenant> getVersionedSingleTenant() {
+    var tenants = tenantService.getAllTenantSummaries();
+    if (tenants != null && tenants.size() == 1) {
+      var tenantEntity =
+          tenantService
+              .findTenantById(tenants.get(0).getId())
+              .orElseThrow(() -> new IllegalStateException("Single tenant was not found."));
       String lang = translationService.getCurrentLanguageContext();
-      return Optional.of(tenantConverter.toRestrictedTenantDTO(tenantEntity, lang));
+      return Optional.of(versionedRestrictedTenant(tenantEntity, lang));
     } else {
       throw new IllegalStateException("Not exactly one tenant was found.");
     }
   }
 
+  private VersionedRestrictedTenant versionedRestrictedTenant(TenantEntity tenant, String lang) {
+    return new VersionedRestrictedTenant(
+        eTagOf(tenantConverter.toRestrictedTenantVersion(tenant, lang)),
+        () -> tenantConverter.toRestrictedTenantDTO(tenant, lang));
+  }
+
+  private VersionedRestrictedTenant versionedRestrictedTenantWithOverride(
+      TenantEntity mainTenant, TenantEntity actualTenant) {
+    String lang = translationService.getCurrentLanguageContext();
+    var eTag =
+        eTagOf(
+            tenantConverter.toRestrictedTenantVersion(mainTenant, lang),
+            tenantConverter.toRestrictedTenantVersion(actualTenant, lang),
+            String.valueOf(singleDomainTenantOverrideService.isContentOverrideAllowed()));
+    return new VersionedRestrictedTenant(
+        eTag,
+        () ->
+            singleDomainTenantOverrideService.overridePrivacyAndCertainSettings(
+                mainTenant, actualTenant));
+  }
+
+  private static String eTagOf(String... versions) {
+    return Hashing.sha256()
+        .hashString(String.join("|", versions), StandardCharsets.UTF_8)
+        .toString();
+  }
+
   public boolean canAccessTenant() {
     Optional<String> subdomain = subdomainExtractor.getCurrentSubdomain();
     if (subdomain.isEmpty()) {
@@ -456,38 +582,41 @@ public class TenantServiceFacade {
       String infix, int pageNumber, Integer pageSize, String fieldName, boolean isAscending) {
     var direction = isAscending ? Direction.ASC : Direction.DESC;
     var pageRequest = PageRequest.of(pageNumber, pageSize, direction, fieldName);
-    Page<TenantBase> tenantPage = tenantService.findAllExceptTechnicalByInfix(infix, pageRequest);
-    var tenantIds = tenantPage.stream().map(TenantBase::getId).toList();
-    var fullTenants = tenantService.findAllByIds(tenantIds);
-    return mapOf(tenantPage, fullTenants);
+    Page<TenantSummary> tenantPage =
+        tenantService.findAllExceptTechnicalByInfix(infix, pageRequest);
+    return mapOf(tenantPage);
   }
 
   public List<AdminTenantDTO> getAllAdminTenantsExceptTechnical() {
-    var tenantEntities = tenantService.getAllTenants();
-    excludeTechnicalTenantFrom(tenantEntities);
+    var tenants = tenantService.getAllTenantSummaries();
+    excludeTechnicalTenantFrom(tenants);
     List<AdminTenantDTO> adminTenantDTOS =
-        tenantEntities.stream().map(tenantConverter::toAdminTenantDTO).toList();
+        tenants.stream().map(tenantConverter::toAdminTenantDTO).toList();
+    var tenantAdmins =
+        userAdminService.getTenantAdmins(
+            adminTenantDTOS.stream()
+                .map(adminTenantDTO -> adminTenantDTO.getId().intValue())
+                .toList());
     adminTenantDTOS.forEach(
-        adminTenantDTO ->
-            enrichWithAdminData(adminTenantDTO.getId().intValue(), adminTenantDTO::setAdminEmails));
+        adminTenantDTO -> {
+          var tenantId = adminTenantDTO.getId().intValue();
+          enrichWithAdminData(tenantId, tenantAdmins.get(tenantId), adminTenantDTO::setAdminEmails);
+        });
     return adminTenantDTOS;
   }
 
-  private void excludeTechnicalTenantFrom(List<TenantEntity> tenants) {
+  private void excludeTechnicalTenantFrom(List<TenantSummary> tenants) {
     emptyIfNull(tenants).removeIf(tenant -> tenant.getId() == TECHNICAL_TENANT_ID);
   }
 
-  private Map<String, Object> mapOf(Page<TenantBase> tenantPage, List<TenantEntity> fullTenants) {
-    var fullTenantsLookupMap =
-        fullTenants.stream().collect(Collectors.toMap(TenantEntity::getId, Function.identity()));
+  private Map<String, Object> mapOf(Page<TenantSummary> tenantPage) {
+    var tenantAdmins =
+        userAdminService.getTenantAdmins(
+            tenantPage.stream().map(tenant -> tenant.getId().intValue()).toList());
 
     var tenants = new ArrayList<Map<String, Object>>();
     tenantPage.forEach(
-        tenantBase -> {
-          var fullTenant = fullTenantsLookupMap.get(tenantBase.getId());
-          var tenantMap = mapOf(tenantBase, fullTenant);
-          tenants.add(tenantMap);
-        });
+        tenant -> tenants.add(mapOf(tenant, tenantAdmins.get(tenant.getId().intValue()))));
 
     return Map.of(
         "totalElements",
@@ -500,21 +629,17 @@ public class TenantServiceFacade {
         tenants);
   }
 
-  private Map<String, Object> mapOf(TenantBase tenantBase, TenantEntity fullTenant) {
+  private Map<String, Object> mapOf(TenantSummary tenant, List<AdminResponseDTO> tenantAdmins) {
     Map<String, Object> map = new HashMap<>();
-    map.put("id", tenantBase.getId());
-    map.put("name", tenantBase.getName());
-    map.put("subdomain", fullTenant.getSubdomain());
-    map.put("beraterCount", fullTenant.getLicensingAllowedNumberOfUsers());
-    List<AdminResponseDTO> tenantAdmins =
-        userAdminService.getTenantAdmins(tenantBase.getId().intValue());
-    map.put("adminEmails", getAdminEmails(tenantAdmins));
+    map.put("id", tenant.getId());
+    map.put("name", tenant.getName());
+    map.put("subdomain", tenant.getSubdomain());
+    map.put("beraterCount", tenant.getLicensingAllowedNumberOfUsers());
+    map.put("adminEmails", getAdminEmails(emptyIfNull(tenantAdmins)));
     map.put(
-        "createDate",
-        nonNull(fullTenant.getCreateDate()) ? fullTenant.getCreateDate().toString() : null);
+        "createDate", nonNull(tenant.getCreateDate()) ? tenant.getCreateDate().toString() : null);
     map.put(
-        "updateDate",
-        nonNull(fullTenant.getUpdateDate()) ? fullTenant.getUpdateDate().toString() : null);
+        "updateDate", nonNull(tenant.getUpdateDate()) ? tenant.getUpdateDate().toString() : null);
     return map;
   }
 }
@@ -0,0 +1,39 @@
+package com.vi.tenantservice.api.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import java.util.function.ToDoubleFunction;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+/**
+ * Gauges of the connection pool of an http client: leased, available and pending connections and
+ * the pool limit. The gauges only keep a weak reference to the pool, so the caller has to keep it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HttpClientPoolMetrics {
+
+  public static final String POOL_GAUGE = "tenant.http.client.pool";
+
+  private static final String CLIENT_TAG = "client";
+  private static final String STATE_TAG = "state";
+
+  public static void bind(String clientName, ConnPoolControl<?> pool) {
+    var tags = Tags.of(CLIENT_TAG, clientName);
+    gauge(pool, tags.and(STATE_TAG, "leased"), PoolStats::getLeased);
+    gauge(pool, tags.and(STATE_TAG, "available"), PoolStats::getAvailable);
+    gauge(pool, tags.and(STATE_TAG, "pending"), PoolStats::getPending);
+    gauge(pool, tags.and(STATE_TAG, "max"), PoolStats::getMax);
+  }
+
+  private static void gauge(
+      ConnPoolControl<?> pool, Tags tags, ToDoubleFunction<PoolStats> statistic) {
+    Gauge.builder(POOL_GAUGE, pool, control -> statistic.applyAsDouble(control.getTotalStats()))
+        .tags(tags)
+        .description("Connections of the http client pool")
+        .register(Metrics.globalRegistry);
+  }
+}
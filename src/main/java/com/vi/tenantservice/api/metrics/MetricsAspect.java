@@ -0,0 +1,94 @@
+package com.vi.tenantservice.api.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import java.util.Optional;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/** Times the calls of the facade, the repository, the template renderer and the remote clients. */
+@Aspect
+@Component
+public class MetricsAspect {
+
+  public static final String FACADE_TIMER = "tenant.facade";
+  public static final String REPOSITORY_TIMER = "tenant.repository";
+  public static final String TEMPLATE_RENDER_TIMER = "tenant.template.render";
+  public static final String DOWNSTREAM_TIMER = "tenant.downstream";
+  public static final String RESOLVER_TIMER = "tenant.resolver";
+
+  public static final String RESOLVED = "resolved";
+  public static final String UNRESOLVED = "unresolved";
+
+  private static final String METHOD_TAG = "method";
+  private static final String CLIENT_TAG = "client";
+  private static final String RESOLVER_TAG = "resolver";
+  private static final String TENANT_RESOLVER_SUFFIX = "TenantResolver";
+
+  @Around("execution(public * com.vi.tenantservice.api.facade.TenantServiceFacade.*(..))")
+  public Object timeFacade(ProceedingJoinPoint joinPoint) throws Throwable {
+    return TenantMetrics.record(FACADE_TIMER, methodTag(joinPoint), joinPoint::proceed);
+  }
+
+  @Around(
+      "this(com.vi.tenantservice.api.repository.TenantRepository)"
+          + " && !execution(* java.lang.Object.*(..))")
+  public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return TenantMetrics.record(REPOSITORY_TIMER, methodTag(joinPoint), joinPoint::proceed);
+  }
+
+  @Around(
+      "execution(public * com.vi.tenantservice.api.service.TemplateRenderer.renderTemplate(..))")
+  public Object timeTemplateRendering(ProceedingJoinPoint joinPoint) throws Throwable {
+    return TenantMetrics.record(TEMPLATE_RENDER_TIMER, Tags.empty(), joinPoint::proceed);
+  }
+
+  @Around(
+      "execution(public * com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService.*(..))"
+          + " || execution(public * com.vi.tenantservice.api.service.consultingtype.UserAdminService.*(..))"
+          + " || execution(public * com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService.*(..))")
+  public Object timeDownstreamCall(ProceedingJoinPoint joinPoint) throws Throwable {
+    var tags =
+        methodTag(joinPoint)
+            .and(CLIENT_TAG, joinPoint.getSignature().getDeclaringType().getSimpleName());
+    return TenantMetrics.record(DOWNSTREAM_TIMER, tags, joinPoint::proceed);
+  }
+
+  /**
+   * Times the tenant resolvers. A resolver which resolved the tenant sets the resolution strategy
+   * of the request, which is used as tag of all timers recorded afterwards.
+   */
+  @Around(
+      "execution(public java.util.Optional com.vi.tenantservice.api.tenant.TenantResolver+.*(..))")
+  public Object timeTenantResolver(ProceedingJoinPoint joinPoint) throws Throwable {
+    var strategy = strategyOf(ClassUtils.getUserClass(joinPoint.getTarget()));
+    var tags = methodTag(joinPoint).and(RESOLVER_TAG, strategy);
+    return TenantMetrics.record(
+        RESOLVER_TIMER,
+        tags,
+        joinPoint::proceed,
+        result -> {
+          if (result instanceof Optional<?> resolvedTenant && resolvedTenant.isPresent()) {
+            TenantMetrics.setResolutionStrategy(strategy);
+            return RESOLVED;
+          }
+          return UNRESOLVED;
+        });
+  }
+
+  private static Tags methodTag(ProceedingJoinPoint joinPoint) {
+    return Tags.of(METHOD_TAG, joinPoint.getSignature().getName());
+  }
+
+  /** Get the strategy of a resolver, e.g. accessToken for the AccessTokenTenantResolver. */
+  static String strategyOf(Class<?> resolverType) {
+    var name = resolverType.getSimpleName();
+    if (name.endsWith(TENANT_RESOLVER_SUFFIX)) {
+      name = name.substring(0, name.length() - TENANT_RESOLVER_SUFFIX.length());
+    }
+    return StringUtils.uncapitalize(name);
+  }
+}
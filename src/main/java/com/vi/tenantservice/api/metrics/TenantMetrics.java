@@ -0,0 +1,82 @@
+package com.vi.tenantservice.api.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Records timers of the tenant service. Every timer is tagged with the outcome of the call and the
+ * strategy the tenant of the current request was resolved with. Timers are registered in the global
+ * registry, so they are also available to code which is not managed by spring.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TenantMetrics {
+
+  public static final String OUTCOME_TAG = "outcome";
+  public static final String STRATEGY_TAG = "strategy";
+  public static final String SUCCESS = "success";
+  public static final String ERROR = "error";
+  public static final String NO_STRATEGY = "none";
+
+  private static final String STRATEGY_ATTRIBUTE = TenantMetrics.class.getName() + ".STRATEGY";
+
+  public static <T, E extends Throwable> T record(String name, Tags tags, MeteredCall<T, E> call)
+      throws E {
+    return record(name, tags, call, result -> SUCCESS);
+  }
+
+  /**
+   * Records the duration of the call.
+   *
+   * @param name the timer name
+   * @param tags the tags besides outcome and strategy
+   * @param call the call to measure
+   * @param outcomeOf the outcome of a successful call, e.g. whether a tenant was resolved
+   * @return the result of the call
+   */
+  public static <T, E extends Throwable> T record(
+      String name, Tags tags, MeteredCall<T, E> call, Function<T, String> outcomeOf) throws E {
+    long start = System.nanoTime();
+    String outcome = ERROR;
+    try {
+      T result = call.call();
+      outcome = outcomeOf.apply(result);
+      return result;
+    } finally {
+      Metrics.globalRegistry
+          .timer(name, tags.and(OUTCOME_TAG, outcome, STRATEGY_TAG, getResolutionStrategy()))
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Remember the strategy the tenant of the current request was resolved with. Outside of requests,
+   * e.g. in executor threads, the strategy is not kept.
+   */
+  public static void setResolutionStrategy(String strategy) {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes != null) {
+      requestAttributes.setAttribute(STRATEGY_ATTRIBUTE, strategy, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  public static String getResolutionStrategy() {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return NO_STRATEGY;
+    }
+    var strategy =
+        requestAttributes.getAttribute(STRATEGY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    return strategy != null ? strategy.toString() : NO_STRATEGY;
+  }
+
+  @FunctionalInterface
+  public interface MeteredCall<T, E extends Throwable> {
+    T call() throws E;
+  }
+}
@@ -1,5 +1,6 @@
 package com.vi.tenantservice.api.model;
 
+import com.vi.tenantservice.api.util.JsonConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -7,17 +8,23 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(name = "tenant")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode
@@ -80,10 +87,52 @@ public class TenantEntity {
   @Column(name = "update_date")
   private LocalDateTime updateDate;
 
-  public interface TenantBase {
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final transient AtomicReference<ParsedSettings> parsedSettings = new AtomicReference<>();
 
-    Long getId();
+  public void setSettings(String settings) {
+    this.settings = settings;
+    parsedSettings.set(null);
+  }
+
+  /**
+   * Returns the settings parsed from their json representation. Parsing happens once per settings
+   * value, every caller gets its own copy of the parsed settings.
+   *
+   * @return the parsed settings or null, if the tenant has no settings
+   */
+  public TenantSettings getParsedSettings() {
+    if (settings == null) {
+      return null;
+    }
+    var parsed = parsedSettings.get();
+    if (parsed == null || !settings.equals(parsed.json())) {
+      parsed = new ParsedSettings(settings, JsonConverter.convertFromJson(settings));
+      parsedSettings.set(parsed);
+    }
+    return copyOf(parsed.tenantSettings());
+  }
 
-    String getName();
+  private static TenantSettings copyOf(TenantSettings tenantSettings) {
+    if (tenantSettings == null) {
+      return null;
+    }
+    var activeLanguages = tenantSettings.getActiveLanguages();
+    return tenantSettings.toBuilder()
+        .activeLanguages(activeLanguages == null ? null : new ArrayList<>(activeLanguages))
+        .build();
   }
+
+  /**
+   * Returns a detached copy of the tenant. The copy parses its settings on its own.
+   *
+   * @return the copy
+   */
+  public TenantEntity copy() {
+    return toBuilder().build();
+  }
+
+  private record ParsedSettings(String json, TenantSettings tenantSettings) {}
 }
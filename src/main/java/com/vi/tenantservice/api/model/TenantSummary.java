@@ -0,0 +1,19 @@
+package com.vi.tenantservice.api.model;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * Basic tenant data without theming, content and settings. Used as projection for listing and
+ * searching tenants, so the large logo and content columns are not loaded.
+ */
+@Value
+public class TenantSummary {
+
+  Long id;
+  String name;
+  String subdomain;
+  Integer licensingAllowedNumberOfUsers;
+  LocalDateTime createDate;
+  LocalDateTime updateDate;
+}
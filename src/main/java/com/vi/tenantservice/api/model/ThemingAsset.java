@@ -0,0 +1,15 @@
+package com.vi.tenantservice.api.model;
+
+import lombok.Value;
+
+/** Decoded theming image of a tenant, served separately from the tenant json. */
+@Value
+public class ThemingAsset {
+
+  byte[] content;
+  String mediaType;
+  String eTag;
+
+  /** Version of the tenant the image belongs to, as used in versioned asset urls. */
+  String version;
+}
@@ -0,0 +1,24 @@
+package com.vi.tenantservice.api.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+
+@Getter
+public enum ThemingAssetType {
+  LOGO("logo"),
+  ASSOCIATION_LOGO("associationLogo"),
+  FAVICON("favicon");
+
+  private final String pathName;
+
+  ThemingAssetType(String pathName) {
+    this.pathName = pathName;
+  }
+
+  public static Optional<ThemingAssetType> fromPathName(String pathName) {
+    return Arrays.stream(values())
+        .filter(assetType -> assetType.pathName.equals(pathName))
+        .findFirst();
+  }
+}
@@ -0,0 +1,23 @@
+package com.vi.tenantservice.api.model;
+
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Public tenant data together with its version. The version is known without converting the tenant,
+ * so conditional requests can be answered before the content templates are rendered.
+ */
+@Value
+public class VersionedRestrictedTenant {
+
+  String eTag;
+
+  @Getter(AccessLevel.NONE)
+  Supplier<RestrictedTenantDTO> restrictedTenantSupplier;
+
+  public RestrictedTenantDTO getRestrictedTenant() {
+    return restrictedTenantSupplier.get();
+  }
+}
@@ -1,8 +1,10 @@
 package com.vi.tenantservice.api.repository;
 
 import com.vi.tenantservice.api.model.TenantEntity;
-import com.vi.tenantservice.api.model.TenantEntity.TenantBase;
+import com.vi.tenantservice.api.model.TenantSummary;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,17 +14,40 @@ public interface TenantRepository extends JpaRepository<TenantEntity, Long> {
 
   TenantEntity findBySubdomain(String subdomain);
 
+  String TENANT_SUMMARY_SELECT =
+      "SELECT new com.vi.tenantservice.api.model.TenantSummary("
+          + "t.id, t.name, t.subdomain, t.licensingAllowedNumberOfUsers, t.createDate, t.updateDate"
+          + ") ";
+
+  String EXCEPT_TECHNICAL_BY_INFIX_CONDITION =
+      "WHERE"
+          + "  id != 0L "
+          + "  AND ( ?1 = '*' "
+          + "  OR t.id LIKE CONCAT('%', UPPER(?1), '%') "
+          + "  OR UPPER(t.name) LIKE CONCAT('%', UPPER(?1), '%')"
+          + "  )";
+
+  /**
+   * Search tenants by id or name infix. Only the columns shown in the search result are selected,
+   * content, theming and settings columns are not loaded.
+   */
   @Query(
-      value =
-          "SELECT t.id as id, t.name as name "
-              + "FROM TenantEntity t "
-              + "WHERE"
-              + "  id != 0L "
-              + "  AND ( ?1 = '*' "
-              + "  OR t.id LIKE CONCAT('%', UPPER(?1), '%') "
-              + "  OR UPPER(t.name) LIKE CONCAT('%', UPPER(?1), '%')"
-              + "  )")
-  Page<TenantBase> findAllExceptTechnicalByInfix(String infix, Pageable pageable);
-
-  List<TenantEntity> findAllByIdIn(List<Long> tenantIds);
+      value = TENANT_SUMMARY_SELECT + "FROM TenantEntity t " + EXCEPT_TECHNICAL_BY_INFIX_CONDITION,
+      countQuery = "SELECT COUNT(t.id) FROM TenantEntity t " + EXCEPT_TECHNICAL_BY_INFIX_CONDITION)
+  Page<TenantSummary> findAllExceptTechnicalByInfix(String infix, Pageable pageable);
+
+  @Query(value = TENANT_SUMMARY_SELECT + "FROM TenantEntity t")
+  List<TenantSummary> findAllSummaries();
+
+  @Query(value = "SELECT COALESCE(t.updateDate, t.createDate) FROM TenantEntity t WHERE t.id = ?1")
+  Optional<LocalDateTime> findLastChangeById(Long id);
+
+  @Query(value = "SELECT t.themingLogo FROM TenantEntity t WHERE t.id = ?1")
+  Optional<String> findThemingLogoById(Long id);
+
+  @Query(value = "SELECT t.themingAssociationLogo FROM TenantEntity t WHERE t.id = ?1")
+  Optional<String> findThemingAssociationLogoById(Long id);
+
+  @Query(value = "SELECT t.themingFavicon FROM TenantEntity t WHERE t.id = ?1")
+  Optional<String> findThemingFaviconById(Long id);
 }
@@ -1,10 +1,18 @@
 package com.vi.tenantservice.api.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.ws.rs.InternalServerErrorException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +21,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ConfigurationFileLoader {
 
+  private final Map<Path, ParsedFile> parsedFiles = new ConcurrentHashMap<>();
+
   public File loadFrom(final String filePath) {
     try {
       var fileUrl = Paths.get(filePath).toUri().toURL();
@@ -22,4 +32,34 @@ public class ConfigurationFileLoader {
       throw new InternalServerErrorException();
     }
   }
+
+  /**
+   * Read a json configuration file. The file is parsed once and only parsed again after it has been
+   * modified, every call gets its own copy of the content.
+   *
+   * @param filePath the path of the file
+   * @param reader the reader of the type to read
+   * @return a new instance with the content of the file
+   * @throws IOException if the file cannot be read
+   */
+  public <T> T readFrom(final String filePath, final ObjectReader reader) throws IOException {
+    var path = loadFrom(filePath).toPath();
+    var lastModified = Files.getLastModifiedTime(path);
+    var size = Files.size(path);
+    var parsedFile = parsedFiles.get(path);
+    if (parsedFile == null || parsedFile.isOutdated(lastModified, size)) {
+      parsedFile = new ParsedFile(lastModified, size, reader.readTree(Files.readAllBytes(path)));
+      parsedFiles.put(path, parsedFile);
+      log.info("Parsed configuration file {}", path);
+    }
+    return reader.readValue(parsedFile.content());
+  }
+
+  /** Parsed content of a file, which must not be modified as it is shared between calls. */
+  private record ParsedFile(FileTime lastModified, long size, JsonNode content) {
+
+    boolean isOutdated(FileTime currentLastModified, long currentSize) {
+      return !lastModified.equals(currentLastModified) || size != currentSize;
+    }
+  }
 }
@@ -3,12 +3,15 @@ package com.vi.tenantservice.api.service;
 import static com.vi.tenantservice.api.converter.ConverterUtils.nullAsFalse;
 
 import com.vi.tenantservice.api.converter.TenantConverter;
+import com.vi.tenantservice.api.model.Content;
 import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import com.vi.tenantservice.api.model.Settings;
 import com.vi.tenantservice.api.model.TenantEntity;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTOMultitenancyWithSingleDomainEnabled;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 
 @AllArgsConstructor
@@ -24,7 +27,7 @@ public class SingleDomainTenantOverrideService {
       TenantEntity mainTenant, TenantEntity actualTenant) {
     String lang = translationService.getCurrentLanguageContext();
 
-    RestrictedTenantDTO mainTenantRestrictedDTO = getRestrictedTenantDTO(mainTenant, lang);
+    RestrictedTenantDTO mainTenantRestrictedDTO = copyOf(getRestrictedTenantDTO(mainTenant, lang));
     RestrictedTenantDTO overridingRestrictedTenantDTO = getRestrictedTenantDTO(actualTenant, lang);
 
     if (isContentOverrideAllowed()) {
@@ -34,7 +37,7 @@ public class SingleDomainTenantOverrideService {
     return mainTenantRestrictedDTO;
   }
 
-  private boolean isContentOverrideAllowed() {
+  public boolean isContentOverrideAllowed() {
     ApplicationSettingsDTOMultitenancyWithSingleDomainEnabled
         legalContentChangesBySingleTenantAdminsAllowed =
             applicationSettingsService
@@ -57,6 +60,24 @@ public class SingleDomainTenantOverrideService {
     return tenantConverter.toRestrictedTenantDTO(mainTenant, lang);
   }
 
+  /**
+   * Converted tenants are shared via cache, therefore the main tenant data is copied before being
+   * overridden. Only the parts which are modified here are copied.
+   */
+  private static RestrictedTenantDTO copyOf(RestrictedTenantDTO restrictedTenantDTO) {
+    var copy = new RestrictedTenantDTO();
+    BeanUtils.copyProperties(restrictedTenantDTO, copy);
+    if (restrictedTenantDTO.getContent() != null) {
+      copy.setContent(new Content());
+      BeanUtils.copyProperties(restrictedTenantDTO.getContent(), copy.getContent());
+    }
+    if (restrictedTenantDTO.getSettings() != null) {
+      copy.setSettings(new Settings());
+      BeanUtils.copyProperties(restrictedTenantDTO.getSettings(), copy.getSettings());
+    }
+    return copy;
+  }
+
   private static void overrideContent(
       RestrictedTenantDTO restrictedTenantDTO, RestrictedTenantDTO overridingRestrictedTenantDTO) {
     if (overridingRestrictedTenantDTO.getContent() != null) {
@@ -1,30 +1,66 @@
 package com.vi.tenantservice.api.service;
 
-import freemarker.cache.StringTemplateLoader;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Renders template contents with freemarker. Compiled templates are kept in a bounded cache keyed
+ * by the hash of the template content, so changed contents are parsed again and unused ones are
+ * evicted. Compiled templates are immutable and can be processed concurrently.
+ */
 @Service
 @RequiredArgsConstructor
 public class TemplateRenderer {
 
   private final @NonNull freemarker.template.Configuration freemarkerConfiguration;
 
+  @Value("${template.renderer.cache.max.entries}")
+  private long maxCachedTemplates;
+
+  private Cache<String, Template> compiledTemplates;
+
+  @PostConstruct
+  public void init() {
+    compiledTemplates = CacheBuilder.newBuilder().maximumSize(maxCachedTemplates).build();
+  }
+
   public String renderTemplate(String templateContent, Map<String, Object> dataModel)
       throws IOException, TemplateException {
-
-    StringTemplateLoader templateLoader =
-        (StringTemplateLoader) freemarkerConfiguration.getTemplateLoader();
-    templateLoader.putTemplate("in-memory-template", templateContent);
-    Template template = freemarkerConfiguration.getTemplate("in-memory-template");
+    Template template = getCompiledTemplate(templateContent);
     StringWriter stringWriter = new StringWriter();
     template.process(dataModel, stringWriter);
     return stringWriter.toString();
   }
+
+  private Template getCompiledTemplate(String templateContent) throws IOException {
+    var templateHash = Hashing.sha256().hashString(templateContent, StandardCharsets.UTF_8);
+    try {
+      return compiledTemplates.get(
+          templateHash.toString(), () -> compileTemplate(templateHash.toString(), templateContent));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IllegalStateException("Template could not be compiled", e.getCause());
+    }
+  }
+
+  private Template compileTemplate(String templateName, String templateContent) throws IOException {
+    return new Template(templateName, new StringReader(templateContent), freemarkerConfiguration);
+  }
 }
@@ -1,24 +1,59 @@
 package com.vi.tenantservice.api.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_CACHE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.hash.Hashing;
 import com.vi.tenantservice.api.model.DataProtectionContactTemplateDTO;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import com.vi.tenantservice.api.util.JsonConverter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 
-/** Service for mail templates */
+/**
+ * Registry of the data protection contact templates. Templates are loaded once per language and
+ * reloaded when the custom resources path changes. Any change in the directory triggers a reload,
+ * as a Kubernetes ConfigMap update swaps the ..data symlink instead of modifying the template
+ * files.
+ *
+ * <p>The template file without language suffix (dataProtectionContactTemplate.json) holds the
+ * german template, further languages are added by files like dataProtectionContactTemplate.en.json.
+ */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class TemplateService {
 
-  private static final String TEMPLATE_DIR = "/templates/";
+  private static final String CLASSPATH_TEMPLATE_DIR = "classpath:templates/";
+  private static final String DATA_PROTECTION_TEMPLATE_NAME = "dataProtectionContactTemplate";
   private static final String TEMPLATE_EXTENSION = ".json";
+  private static final String DEFAULT_LANGUAGE = "de";
+  private static final ObjectReader TEMPLATE_DESCRIPTION_READER =
+      JsonConverter.readerFor(DataProtectionContactTemplateDTO.class);
+
+  private final @NonNull CacheManager cacheManager;
 
   @Value("${template.use.custom.resources.path}")
   private boolean useCustomResourcesPath;
@@ -26,83 +61,188 @@ public class TemplateService {
   @Value("${template.custom.resources.path}")
   private String customResourcePath;
 
-  public DataProtectionContactTemplateDTO getDefaultDataProtectionTemplate()
-      throws TemplateDescriptionServiceException {
+  @Value("${template.reload.debounce.millis}")
+  private long reloadDebounceMillis;
+
+  private volatile Map<String, DataProtectionContactTemplateDTO> dataProtectionTemplates = Map.of();
+
+  private volatile String dataProtectionTemplatesVersion = "";
+
+  private WatchService watchService;
+
+  @PostConstruct
+  public void init() {
+    loadDataProtectionTemplates();
+    if (useCustomResourcesPath) {
+      watchCustomResourcesPath();
+    }
+  }
 
-    return loadTemplateDescription("dataProtectionContactTemplate");
+  @PreDestroy
+  public void destroy() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+    }
   }
 
-  public Map<String, DataProtectionContactTemplateDTO> getMultilingualDataProtectionTemplate()
-      throws TemplateDescriptionServiceException {
-    return Map.of(
-        "de", loadTemplateDescription("dataProtectionContactTemplate"),
-        "en", loadTemplateDescription("dataProtectionContactTemplate.en"));
+  public DataProtectionContactTemplateDTO getDefaultDataProtectionTemplate() {
+    return dataProtectionTemplates.get(DEFAULT_LANGUAGE);
+  }
+
+  public Optional<DataProtectionContactTemplateDTO> getDataProtectionTemplate(String language) {
+    return language == null
+        ? Optional.empty()
+        : Optional.ofNullable(dataProtectionTemplates.get(language));
+  }
+
+  public Map<String, DataProtectionContactTemplateDTO> getMultilingualDataProtectionTemplate() {
+    return dataProtectionTemplates;
   }
 
   /**
-   * Load template description
+   * Get a hash of the loaded templates. It changes whenever the templates are reloaded with
+   * different content and is equal on all instances using the same templates.
    *
-   * @param templateName the template name
-   * @return the template description
+   * @return the version of the data protection templates
    */
-  private DataProtectionContactTemplateDTO loadTemplateDescription(String templateName)
-      throws TemplateDescriptionServiceException {
-    var mapper = new ObjectMapper();
-    String templateDescriptionJson = loadTemplateDescriptionFile(templateName);
+  public String getDataProtectionTemplatesVersion() {
+    return dataProtectionTemplatesVersion;
+  }
+
+  private void loadDataProtectionTemplates() {
+    Map<String, DataProtectionContactTemplateDTO> templates = new HashMap<>();
+    for (Resource resource : findDataProtectionTemplateResources()) {
+      languageOf(resource.getFilename())
+          .ifPresent(language -> loadTemplateDescription(resource, templates, language));
+    }
+    dataProtectionTemplates = Map.copyOf(templates);
+    dataProtectionTemplatesVersion =
+        Hashing.sha256()
+            .hashString(
+                JsonConverter.convertToJson(new TreeMap<>(templates)), StandardCharsets.UTF_8)
+            .toString();
+    log.info("Loaded data protection contact templates for languages {}", templates.keySet());
+  }
+
+  private Resource[] findDataProtectionTemplateResources() {
+    var templateDir =
+        useCustomResourcesPath ? "file:" + customResourcePath : CLASSPATH_TEMPLATE_DIR;
     try {
-      return mapper.readValue(templateDescriptionJson, DataProtectionContactTemplateDTO.class);
-    } catch (Exception ex) {
-      throw new TemplateDescriptionServiceException(
-          String.format(
-              "Json file with template description could not be parsed, template name: %s",
-              templateName),
-          ex);
+      return new PathMatchingResourcePatternResolver()
+          .getResources(templateDir + DATA_PROTECTION_TEMPLATE_NAME + "*" + TEMPLATE_EXTENSION);
+    } catch (IOException ex) {
+      log.error("Template files could not be found in {}", templateDir, ex);
+      return new Resource[0];
     }
   }
 
   /**
-   * Load template file from resources. InputStream is needed as file is located in jar.
+   * Get the language of a template file, e.g. en for dataProtectionContactTemplate.en.json.
    *
-   * @param templateName the name of the template
-   * @return the content of the template description file
+   * @param filename the template file name
+   * @return the language or empty, if the file is no data protection template
    */
-  private String loadTemplateDescriptionFile(String templateName)
-      throws TemplateDescriptionServiceException {
+  private Optional<String> languageOf(String filename) {
+    if (filename == null
+        || !filename.startsWith(DATA_PROTECTION_TEMPLATE_NAME)
+        || !filename.endsWith(TEMPLATE_EXTENSION)) {
+      return Optional.empty();
+    }
+    var suffix =
+        filename.substring(
+            DATA_PROTECTION_TEMPLATE_NAME.length(),
+            filename.length() - TEMPLATE_EXTENSION.length());
+    if (suffix.isEmpty()) {
+      return Optional.of(DEFAULT_LANGUAGE);
+    }
+    return suffix.startsWith(".") ? Optional.of(suffix.substring(1)) : Optional.empty();
+  }
+
+  private void loadTemplateDescription(
+      Resource resource, Map<String, DataProtectionContactTemplateDTO> templates, String language) {
     try {
-      var inputStream =
-          useCustomResourcesPath
-              ? buildStreamForExternalPath(templateName)
-              : TemplateService.class.getResourceAsStream(getTemplateFilename(templateName));
-      log.info("useCustomResourcesPath: {}", useCustomResourcesPath);
-      if (inputStream == null) {
-        log.error("Template file could not be loaded, template name: {}", templateName);
-        return "";
-      }
-      assert inputStream != null;
-      final List<String> fileLines =
-          IOUtils.readLines(inputStream, StandardCharsets.UTF_8.displayName());
-      return String.join("", fileLines);
+      templates.put(language, readTemplateDescription(resource));
+    } catch (TemplateDescriptionServiceException ex) {
+      log.error("Error while loading data protection contact template", ex);
+    }
+  }
+
+  /**
+   * Load template description. InputStream is needed as file may be located in jar.
+   *
+   * @param resource the template resource
+   * @return the template description
+   */
+  private DataProtectionContactTemplateDTO readTemplateDescription(Resource resource)
+      throws TemplateDescriptionServiceException {
+    try (var inputStream = resource.getInputStream()) {
+      return TEMPLATE_DESCRIPTION_READER.readValue(inputStream);
     } catch (Exception ex) {
       throw new TemplateDescriptionServiceException(
           String.format(
-              "Json file with template description could not be loaded, template name: %s",
-              templateName),
+              "Json file with template description could not be parsed, template file: %s",
+              resource.getFilename()),
           ex);
     }
   }
 
-  private FileInputStream buildStreamForExternalPath(String templateName)
-      throws FileNotFoundException {
-    return new FileInputStream(customResourcePath + templateName + TEMPLATE_EXTENSION);
+  private void watchCustomResourcesPath() {
+    try {
+      var templateDir = Paths.get(customResourcePath);
+      watchService = templateDir.getFileSystem().newWatchService();
+      templateDir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+      var watcherThread = new Thread(this::reloadOnTemplateChanges, "template-watcher");
+      watcherThread.setDaemon(true);
+      watcherThread.start();
+    } catch (IOException | InvalidPathException ex) {
+      log.error(
+          "Template directory {} could not be watched, templates will not be reloaded",
+          customResourcePath,
+          ex);
+    }
   }
 
   /**
-   * Get the filename and filepath for the template description file
-   *
-   * @param templateName the template name
-   * @return the filename with filepath of the template description file
+   * Reload the templates once the directory has not changed for the debounce time, so an update
+   * consisting of several file operations is loaded once and completely.
    */
-  private String getTemplateFilename(String templateName) {
-    return TEMPLATE_DIR + templateName + TEMPLATE_EXTENSION;
+  private void reloadOnTemplateChanges() {
+    try {
+      while (true) {
+        WatchKey watchKey = watchService.take();
+        while (watchKey != null) {
+          watchKey.pollEvents();
+          if (!watchKey.reset()) {
+            log.warn("Template directory {} is no longer accessible", customResourcePath);
+            return;
+          }
+          watchKey = watchService.poll(reloadDebounceMillis, TimeUnit.MILLISECONDS);
+        }
+        reloadDataProtectionTemplates();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException ex) {
+      log.debug("Stopped watching template directory {}", customResourcePath);
+    }
+  }
+
+  private void reloadDataProtectionTemplates() {
+    try {
+      var previousVersion = dataProtectionTemplatesVersion;
+      loadDataProtectionTemplates();
+      if (!previousVersion.equals(dataProtectionTemplatesVersion)) {
+        evictRenderedTenants();
+      }
+    } catch (RuntimeException ex) {
+      log.error("Templates could not be reloaded from {}", customResourcePath, ex);
+    }
+  }
+
+  private void evictRenderedTenants() {
+    var restrictedTenantCache = cacheManager.getCache(RESTRICTED_TENANT_CACHE);
+    if (restrictedTenantCache != null) {
+      restrictedTenantCache.clear();
+    }
   }
 }
@@ -1,15 +1,17 @@
 package com.vi.tenantservice.api.service;
 
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_CACHE;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_BY_SUBDOMAIN_CACHE;
 import static com.vi.tenantservice.api.exception.httpresponse.HttpStatusExceptionReason.SUBDOMAIN_NOT_UNIQUE;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.vi.tenantservice.api.exception.TenantValidationException;
 import com.vi.tenantservice.api.model.TenantEntity;
-import com.vi.tenantservice.api.model.TenantEntity.TenantBase;
 import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.model.TenantSummary;
 import com.vi.tenantservice.api.repository.TenantRepository;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
-import java.io.File;
+import com.vi.tenantservice.api.util.JsonConverter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -21,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -30,6 +34,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TenantService {
 
+  private static final ObjectReader DEFAULT_TENANT_SETTINGS_READER =
+      JsonConverter.readerFor(TenantSettings.class);
+
   @Value("${feature.multitenancy.with.single.domain.enabled}")
   private boolean multitenancyWithSingleDomain;
 
@@ -42,6 +49,7 @@ public class TenantService {
 
   private final @NonNull ConfigurationFileLoader configurationFileLoader;
 
+  @CacheEvict(cacheNames = TENANT_BY_SUBDOMAIN_CACHE, allEntries = true)
   public TenantEntity create(TenantEntity tenantEntity) {
     validateTenant(tenantEntity);
     overrideSubdomainIfNeededForSingleDomainMultitenancy(tenantEntity);
@@ -85,6 +93,9 @@ public class TenantService {
     return dbTenant != null && !dbTenant.getId().equals(tenantEntity.getId());
   }
 
+  @CacheEvict(
+      cacheNames = {TENANT_BY_SUBDOMAIN_CACHE, RESTRICTED_TENANT_CACHE},
+      allEntries = true)
   public TenantEntity update(TenantEntity tenantEntity) {
     validateTenant(tenantEntity);
     overrideSubdomainIfNeededForSingleDomainMultitenancy(tenantEntity);
@@ -103,6 +114,15 @@ public class TenantService {
     return tenantRepository.findById(id);
   }
 
+  /**
+   * Find a tenant by its subdomain. Tenants are cached by subdomain and every call gets a detached
+   * copy, so changes to the returned tenant are neither persisted nor visible to other callers. Use
+   * {@link #findTenantById(Long)} to get a tenant for changing it.
+   *
+   * @param subdomain the subdomain
+   * @return the tenant, if one exists for the subdomain
+   */
+  @Cacheable(cacheNames = TENANT_BY_SUBDOMAIN_CACHE, unless = "#result == null")
   public Optional<TenantEntity> findTenantBySubdomain(String subdomain) {
     var bySubdomain = tenantRepository.findBySubdomain(subdomain);
     return bySubdomain != null ? Optional.of(bySubdomain) : Optional.empty();
@@ -112,24 +132,32 @@ public class TenantService {
     return tenantRepository.findAll();
   }
 
-  public Page<TenantBase> findAllExceptTechnicalByInfix(String infix, PageRequest pageRequest) {
-    return tenantRepository.findAllExceptTechnicalByInfix(infix, pageRequest);
+  /**
+   * Get all tenants without loading theming, content and settings.
+   *
+   * @return the tenant summaries
+   */
+  public List<TenantSummary> getAllTenantSummaries() {
+    return tenantRepository.findAllSummaries();
   }
 
-  public List<TenantEntity> findAllByIds(List<Long> tenantIds) {
-    return tenantRepository.findAllByIdIn(tenantIds);
+  public Page<TenantSummary> findAllExceptTechnicalByInfix(String infix, PageRequest pageRequest) {
+    return tenantRepository.findAllExceptTechnicalByInfix(infix, pageRequest);
   }
 
   public TenantSettings getDefaultTenantSettings() {
-    final File file = configurationFileLoader.loadFrom(defaultTenantSettingsFilePath);
     try {
-      return new ObjectMapper().readValue(file, TenantSettings.class);
+      return configurationFileLoader.readFrom(
+          defaultTenantSettingsFilePath, DEFAULT_TENANT_SETTINGS_READER);
     } catch (IOException ioException) {
       log.error("Error while reading default tenant settings configuration file", ioException);
       throw new InternalServerErrorException();
     }
   }
 
+  @CacheEvict(
+      cacheNames = {TENANT_BY_SUBDOMAIN_CACHE, RESTRICTED_TENANT_CACHE},
+      allEntries = true)
   public void delete(TenantEntity createdTenant) {
     tenantRepository.delete(createdTenant);
   }
@@ -0,0 +1,181 @@
+package com.vi.tenantservice.api.service;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.vi.tenantservice.api.model.ThemingAsset;
+import com.vi.tenantservice.api.model.ThemingAssetType;
+import com.vi.tenantservice.api.repository.TenantRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides the theming images of a tenant as binary assets. The images are stored base64 encoded,
+ * either as data url (data:image/png;base64,...) or as plain base64 string. They are decoded once
+ * per tenant version and cached by tenant, asset type and version, so a changed tenant is never
+ * served from an outdated cache entry. The cache is bounded by the size of the decoded images.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ThemingAssetService {
+
+  private static final String DATA_URL_PREFIX = "data:";
+  private static final String BASE64_SUFFIX = ";base64";
+  private static final String IMAGE_MEDIA_TYPE_PREFIX = "image/";
+
+  private final @NonNull TenantRepository tenantRepository;
+
+  @Value("${cache.theming.asset.max.bytes}")
+  private long maxCachedBytes;
+
+  @Value("${cache.theming.asset.ttl.seconds}")
+  private long cachedAssetTtlSeconds;
+
+  private Cache<String, ThemingAsset> themingAssets;
+
+  @PostConstruct
+  public void init() {
+    themingAssets =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxCachedBytes)
+            .<String, ThemingAsset>weigher((key, asset) -> asset.getContent().length)
+            .expireAfterWrite(Duration.ofSeconds(cachedAssetTtlSeconds))
+            .build();
+  }
+
+  /**
+   * Get the version of the theming assets of a tenant, which is the last change of the tenant.
+   *
+   * @param lastChange update date, or create date if the tenant was never updated
+   * @return the version
+   */
+  public static String versionOf(LocalDateTime lastChange) {
+    return String.valueOf(lastChange.toInstant(ZoneOffset.UTC).toEpochMilli());
+  }
+
+  public Optional<ThemingAsset> findThemingAsset(Long tenantId, ThemingAssetType assetType) {
+    return tenantRepository
+        .findLastChangeById(tenantId)
+        .map(ThemingAssetService::versionOf)
+        .flatMap(version -> findThemingAsset(tenantId, assetType, version));
+  }
+
+  private Optional<ThemingAsset> findThemingAsset(
+      Long tenantId, ThemingAssetType assetType, String version) {
+    var key = tenantId + ":" + assetType + ":" + version;
+    var cachedAsset = themingAssets.getIfPresent(key);
+    if (cachedAsset != null) {
+      return Optional.of(cachedAsset);
+    }
+    var asset =
+        findEncodedImage(tenantId, assetType)
+            .filter(StringUtils::isNotBlank)
+            .flatMap(encodedImage -> decode(encodedImage, tenantId, assetType, version));
+    asset.ifPresent(decodedAsset -> themingAssets.put(key, decodedAsset));
+    return asset;
+  }
+
+  private Optional<String> findEncodedImage(Long tenantId, ThemingAssetType assetType) {
+    return switch (assetType) {
+      case LOGO -> tenantRepository.findThemingLogoById(tenantId);
+      case ASSOCIATION_LOGO -> tenantRepository.findThemingAssociationLogoById(tenantId);
+      case FAVICON -> tenantRepository.findThemingFaviconById(tenantId);
+    };
+  }
+
+  private Optional<ThemingAsset> decode(
+      String encodedImage, Long tenantId, ThemingAssetType assetType, String version) {
+    String declaredMediaType = null;
+    String base64Data = encodedImage.trim();
+    if (base64Data.startsWith(DATA_URL_PREFIX)) {
+      int dataStart = base64Data.indexOf(',');
+      String header =
+          dataStart < 0 ? "" : base64Data.substring(DATA_URL_PREFIX.length(), dataStart);
+      if (!header.endsWith(BASE64_SUFFIX)) {
+        log.warn("Theming {} of tenant {} is no base64 data url", assetType, tenantId);
+        return Optional.empty();
+      }
+      declaredMediaType = header.substring(0, header.length() - BASE64_SUFFIX.length());
+      base64Data = base64Data.substring(dataStart + 1);
+    }
+
+    byte[] content;
+    try {
+      content = Base64.getDecoder().decode(CharMatcher.whitespace().removeFrom(base64Data));
+    } catch (IllegalArgumentException e) {
+      log.warn("Theming {} of tenant {} is not base64 encoded", assetType, tenantId);
+      return Optional.empty();
+    }
+
+    var mediaType =
+        declaredMediaType != null && declaredMediaType.startsWith(IMAGE_MEDIA_TYPE_PREFIX)
+            ? Optional.of(declaredMediaType)
+            : detectImageMediaType(content);
+    if (mediaType.isEmpty()) {
+      log.warn("Theming {} of tenant {} is no supported image", assetType, tenantId);
+    }
+    return mediaType.map(type -> new ThemingAsset(content, type, eTagOf(content), version));
+  }
+
+  /**
+   * Detect the image type by the leading bytes of the content, as plain base64 strings carry no
+   * media type.
+   */
+  static Optional<String> detectImageMediaType(byte[] content) {
+    if (startsWith(content, 0x89, 'P', 'N', 'G')) {
+      return Optional.of("image/png");
+    }
+    if (startsWith(content, 0xFF, 0xD8, 0xFF)) {
+      return Optional.of("image/jpeg");
+    }
+    if (startsWith(content, 'G', 'I', 'F', '8')) {
+      return Optional.of("image/gif");
+    }
+    if (startsWith(content, 0x00, 0x00, 0x01, 0x00)) {
+      return Optional.of("image/x-icon");
+    }
+    if (startsWith(content, 'R', 'I', 'F', 'F')
+        && content.length >= 12
+        && new String(content, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")) {
+      return Optional.of("image/webp");
+    }
+    if (isSvg(content)) {
+      return Optional.of("image/svg+xml");
+    }
+    return Optional.empty();
+  }
+
+  private static boolean startsWith(byte[] content, int... prefix) {
+    if (content.length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if ((content[i] & 0xFF) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSvg(byte[] content) {
+    var text = new String(content, StandardCharsets.UTF_8).stripLeading();
+    return (text.startsWith("<svg") || text.startsWith("<?xml")) && text.contains("<svg");
+  }
+
+  private String eTagOf(byte[] content) {
+    return Hashing.sha256().hashBytes(content).toString();
+  }
+}
@@ -1,22 +1,44 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
+import static com.vi.tenantservice.api.config.ExecutorConfig.CACHE_REFRESH_EXECUTOR;
+import static com.vi.tenantservice.api.config.apiclient.DownstreamHeadersInterceptor.withHeaders;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.vi.tenantservice.api.config.apiclient.ApplicationSettingsApiControllerFactory;
 import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
-import com.vi.tenantservice.applicationsettingsservice.generated.ApiClient;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTO;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTOMainTenantSubdomainForSingleDomainMultitenancy;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsPatchDTO;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
-/** Service class to communicate with the ConsultingTypeService. */
+/**
+ * Service class to communicate with the ConsultingTypeService.
+ *
+ * <p>Application settings are cached per tenant. After the refresh interval the cached settings are
+ * still returned while they are reloaded in the background; if the reload fails, the stale settings
+ * are kept until they expire. The tenant is resolved from unvalidated input (e.g. the tenantId
+ * cookie), so the number of cached tenants is limited.
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ApplicationSettingsService {
 
   private final @NonNull TenantResolverService tenantResolverService;
@@ -24,39 +46,73 @@ public class ApplicationSettingsService {
       applicationSettingsApiControllerFactory;
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
 
+  @Qualifier(CACHE_REFRESH_EXECUTOR)
+  private final @NonNull Executor cacheRefreshExecutor;
+
+  @Value("${application.settings.cache.refresh.seconds}")
+  private long refreshSeconds;
+
+  @Value("${application.settings.cache.expiry.seconds}")
+  private long expirySeconds;
+
+  @Value("${application.settings.cache.max.entries}")
+  private long maxEntries;
+
+  private LoadingCache<Optional<Long>, ApplicationSettingsDTO> applicationSettingsCache;
+
+  @PostConstruct
+  public void init() {
+    applicationSettingsCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxEntries)
+            .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+            .expireAfterWrite(Duration.ofSeconds(expirySeconds))
+            .build(
+                CacheLoader.asyncReloading(
+                    CacheLoader.from(this::loadApplicationSettings), cacheRefreshExecutor));
+  }
+
   public ApplicationSettingsDTO getApplicationSettings() {
+    try {
+      return applicationSettingsCache.getUnchecked(tenantResolverService.tryResolve());
+    } catch (InvalidCacheLoadException e) {
+      // application settings service returned no settings, which are not cached
+      return null;
+    } catch (UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  private ApplicationSettingsDTO loadApplicationSettings(Optional<Long> tenantId) {
+    log.debug("Loading application settings for tenant {}", tenantId);
     ApplicationsettingsControllerApi controllerApi =
-        applicationSettingsApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return controllerApi.getApplicationSettings();
+        applicationSettingsApiControllerFactory.getControllerApi();
+    var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
+    addTenantHeader(headers, tenantId);
+    return withHeaders(headers, controllerApi::getApplicationSettings);
   }
 
   public void saveMainTenantSubDomain(final String subdomain) {
     ApplicationsettingsControllerApi controllerApi =
-        applicationSettingsApiControllerFactory.createControllerApi();
-    addDefaultHeadersWithKeycloak(controllerApi.getApiClient());
+        applicationSettingsApiControllerFactory.getControllerApi();
     ApplicationSettingsPatchDTO applicationSettingsPatchDTO = new ApplicationSettingsPatchDTO();
     applicationSettingsPatchDTO.setMainTenantSubdomainForSingleDomainMultitenancy(
         new ApplicationSettingsDTOMainTenantSubdomainForSingleDomainMultitenancy()
             .value(subdomain));
-    controllerApi.patchApplicationSettings(applicationSettingsPatchDTO);
+    withHeaders(
+        getDefaultHeadersWithKeycloak(),
+        () -> controllerApi.patchApplicationSettings(applicationSettingsPatchDTO));
+    applicationSettingsCache.invalidateAll();
   }
 
-  private void addDefaultHeadersWithKeycloak(ApiClient apiClient) {
+  private HttpHeaders getDefaultHeadersWithKeycloak() {
     var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    addHeaders(apiClient, headers);
+    addTenantHeader(headers, tenantResolverService.tryResolve());
+    return headers;
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
-    var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
-    addHeaders(apiClient, headers);
-  }
-
-  private void addHeaders(ApiClient apiClient, HttpHeaders headers) {
-    Optional<Long> optionalTenant = tenantResolverService.tryResolve();
-    if (optionalTenant.isPresent()) {
-      headers.add("tenantId", optionalTenant.get().toString());
-    }
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+  private void addTenantHeader(HttpHeaders headers, Optional<Long> tenantId) {
+    tenantId.ifPresent(id -> headers.add("tenantId", id.toString()));
   }
 }
@@ -1,20 +1,28 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.CONSULTING_TYPES_CACHE;
+import static com.vi.tenantservice.api.config.apiclient.DownstreamHeadersInterceptor.withHeaders;
+
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.vi.tenantservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
 import com.vi.tenantservice.api.service.ConfigurationFileLoader;
 import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
+import com.vi.tenantservice.api.util.JsonConverter;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.ConsultingTypeDTO;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.ConsultingTypePatchDTO;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
-import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 
@@ -23,6 +31,9 @@ import org.springframework.web.client.RestClientException;
 @Slf4j
 public class ConsultingTypeService {
 
+  private static final ObjectReader CONSULTING_TYPE_READER =
+      JsonConverter.readerFor(ConsultingTypeDTO.class);
+
   private final @NonNull ConsultingTypeServiceApiControllerFactory
       consultingTypeServiceApiControllerFactory;
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
@@ -32,11 +43,11 @@ public class ConsultingTypeService {
   @Value("${default.consulting.types.json.path}")
   private String defaultConsultingTypesFilePath;
 
+  @CacheEvict(cacheNames = CONSULTING_TYPES_CACHE, key = "#tenantId.intValue()")
   public void createDefaultConsultingTypes(Long tenantId) {
-    final File file = configurationFileLoader.loadFrom(defaultConsultingTypesFilePath);
     try {
       ConsultingTypeDTO consultingTypeDTO =
-          new ObjectMapper().readValue(file, ConsultingTypeDTO.class);
+          configurationFileLoader.readFrom(defaultConsultingTypesFilePath, CONSULTING_TYPE_READER);
       consultingTypeDTO.setTenantId(tenantId.intValue());
       createConsultingType(consultingTypeDTO);
     } catch (IOException ioException) {
@@ -47,48 +58,100 @@ public class ConsultingTypeService {
 
   private void createConsultingType(ConsultingTypeDTO consultingTypeDTO)
       throws RestClientException {
-    var consultingTypeControllerApi =
-        consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+    var consultingTypeControllerApi = consultingTypeServiceApiControllerFactory.getControllerApi();
     try {
-      consultingTypeControllerApi.createConsultingType(consultingTypeDTO);
+      withHeaders(
+          getDefaultHeaders(),
+          () -> consultingTypeControllerApi.createConsultingType(consultingTypeDTO));
     } catch (RestClientException e) {
       log.error("Error while creating consulting type {}", consultingTypeDTO, e);
       throw e;
     }
   }
 
+  /**
+   * Patch a consulting type of a tenant. The cached consulting types of the tenant are replaced by
+   * the patched ones, or evicted if the patch fails.
+   *
+   * @param tenantId the id of the tenant of the consulting type
+   * @param id the id of the consulting type
+   * @param consultingTypeDTO the changes
+   * @return the patched consulting type
+   */
+  @Caching(
+      evict =
+          @CacheEvict(
+              cacheNames = CONSULTING_TYPES_CACHE,
+              key = "#tenantId",
+              beforeInvocation = true),
+      put =
+          @CachePut(
+              cacheNames = CONSULTING_TYPES_CACHE,
+              key = "#tenantId",
+              unless = "#result == null"))
   public FullConsultingTypeResponseDTO patchConsultingType(
-      Integer id, ConsultingTypePatchDTO consultingTypeDTO) throws RestClientException {
-    var consultingTypeControllerApi =
-        consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+      Integer tenantId, Integer id, ConsultingTypePatchDTO consultingTypeDTO)
+      throws RestClientException {
+    var consultingTypeControllerApi = consultingTypeServiceApiControllerFactory.getControllerApi();
     try {
-      return consultingTypeControllerApi.patchConsultingType(id, consultingTypeDTO);
+      return withHeaders(
+          getDefaultHeaders(),
+          () -> consultingTypeControllerApi.patchConsultingType(id, consultingTypeDTO));
     } catch (RestClientException e) {
       log.error("Error while patching consulting type {}", id, e);
       throw e;
     }
   }
 
-  public FullConsultingTypeResponseDTO getConsultingTypesByTenantId(Integer tenantId) {
-    var consultingTypeControllerApi =
-        consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+  /**
+   * Get the consulting types of a tenant, from the cache if present.
+   *
+   * @param tenantId the id of the tenant
+   * @param headers the headers of the call, resolved beforehand by {@link #getDefaultHeaders()}
+   * @return the consulting types of the tenant
+   */
+  @Cacheable(cacheNames = CONSULTING_TYPES_CACHE, key = "#tenantId", unless = "#result == null")
+  public FullConsultingTypeResponseDTO getConsultingTypesByTenantId(
+      Integer tenantId, HttpHeaders headers) {
+    return requestConsultingTypesByTenantId(tenantId, headers);
+  }
+
+  /**
+   * Get the current consulting types of a tenant from the consulting type service, bypassing the
+   * cache, and cache them. Use this before changing the consulting types, as the cached ones may be
+   * outdated.
+   *
+   * @param tenantId the id of the tenant
+   * @return the current consulting types of the tenant
+   */
+  @CachePut(cacheNames = CONSULTING_TYPES_CACHE, key = "#tenantId", unless = "#result == null")
+  public FullConsultingTypeResponseDTO getCurrentConsultingTypesByTenantId(Integer tenantId) {
+    return requestConsultingTypesByTenantId(tenantId, getDefaultHeaders());
+  }
+
+  private FullConsultingTypeResponseDTO requestConsultingTypesByTenantId(
+      Integer tenantId, HttpHeaders headers) {
+    var consultingTypeControllerApi = consultingTypeServiceApiControllerFactory.getControllerApi();
     try {
-      return consultingTypeControllerApi.getFullConsultingTypeByTenantId(tenantId);
+      return withHeaders(
+          headers, () -> consultingTypeControllerApi.getFullConsultingTypeByTenantId(tenantId));
     } catch (RestClientException e) {
       log.error("Error while getting consulting types for tenant {}", tenantId, e);
       throw e;
     }
   }
 
-  private void addDefaultHeaders(
-      com.vi.tenantservice.consultingtypeservice.generated.ApiClient apiClient) {
+  /**
+   * Resolve the headers of calls to the consulting type service. They depend on the current request
+   * and security context, so they must be resolved on the thread of the request.
+   *
+   * @return the headers
+   */
+  public HttpHeaders getDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
 
     Optional<Long> optionalTenant = tenantResolverService.tryResolve();
     optionalTenant.ifPresent(aLong -> headers.add("tenantId", aLong.toString()));
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
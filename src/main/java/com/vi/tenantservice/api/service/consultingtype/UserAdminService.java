@@ -1,42 +1,132 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
+import static com.vi.tenantservice.api.config.ExecutorConfig.REMOTE_CALL_EXECUTOR;
+import static com.vi.tenantservice.api.config.apiclient.DownstreamHeadersInterceptor.withHeaders;
+
+import com.google.common.base.Throwables;
 import com.vi.tenantservice.api.config.apiclient.UserAdminServiceApiControllerFactory;
 import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
-import com.vi.tenantservice.useradminservice.generated.ApiClient;
 import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 /** Service class to communicate with the ConsultingTypeService. */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class UserAdminService {
 
   private final @NonNull TenantResolverService tenantResolverService;
   private final @NonNull UserAdminServiceApiControllerFactory userAdminServiceApiControllerFactory;
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
 
+  @Qualifier(REMOTE_CALL_EXECUTOR)
+  private final @NonNull Executor remoteCallExecutor;
+
+  @Value("${remote.call.enrichment.timeout.millis}")
+  private long enrichmentTimeoutMillis;
+
   public List<AdminResponseDTO> getTenantAdmins(Integer tenantId) {
-    var controllerApi = userAdminServiceApiControllerFactory.createControllerApi();
-    addDefaultHeadersWithKeycloak(controllerApi.getApiClient());
-    return controllerApi.getTenantAdmins(tenantId);
+    return getTenantAdmins(tenantId, getDefaultHeaders());
   }
 
-  private void addDefaultHeadersWithKeycloak(ApiClient apiClient) {
-    var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    addHeaders(apiClient, headers);
+  /**
+   * Get the admins of a tenant with headers resolved beforehand, e.g. by {@link
+   * #getDefaultHeaders()} on the thread of the current request.
+   *
+   * @param tenantId the tenant id
+   * @param headers the headers of the call
+   * @return the admins of the tenant
+   */
+  public List<AdminResponseDTO> getTenantAdmins(Integer tenantId, HttpHeaders headers) {
+    var controllerApi = userAdminServiceApiControllerFactory.getControllerApi();
+    return withHeaders(headers, () -> controllerApi.getTenantAdmins(tenantId));
+  }
+
+  /**
+   * Get the admins of several tenants. The user admin service offers no bulk endpoint, so the
+   * admins are requested concurrently on a bounded executor. Headers are resolved once on the
+   * calling thread, as they depend on the current request and security context. All calls share the
+   * enrichment timeout; tenants whose admins are not received in time are missing in the result and
+   * their pending calls are cancelled.
+   *
+   * @param tenantIds the tenant ids
+   * @return the admins by tenant id, without the tenants whose admins were not received in time
+   */
+  public Map<Integer, List<AdminResponseDTO>> getTenantAdmins(Collection<Integer> tenantIds) {
+    var headers = getDefaultHeaders();
+    Map<Integer, Future<List<AdminResponseDTO>>> pendingTenantAdmins = new HashMap<>();
+    Map<Integer, List<AdminResponseDTO>> tenantAdmins = new HashMap<>();
+    try {
+      tenantIds.forEach(
+          tenantId ->
+              pendingTenantAdmins.computeIfAbsent(tenantId, id -> submitRemoteCall(id, headers)));
+      var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enrichmentTimeoutMillis);
+      pendingTenantAdmins.forEach(
+          (tenantId, pendingAdmins) ->
+              awaitTenantAdmins(pendingAdmins, deadline, tenantId)
+                  .ifPresent(admins -> tenantAdmins.put(tenantId, admins)));
+    } finally {
+      pendingTenantAdmins.values().forEach(pendingAdmins -> pendingAdmins.cancel(true));
+    }
+    return tenantAdmins;
   }
 
-  private void addHeaders(ApiClient apiClient, HttpHeaders headers) {
+  private Future<List<AdminResponseDTO>> submitRemoteCall(Integer tenantId, HttpHeaders headers) {
+    var pendingAdmins = new FutureTask<>(() -> getTenantAdmins(tenantId, headers));
+    remoteCallExecutor.execute(pendingAdmins);
+    return pendingAdmins;
+  }
+
+  private Optional<List<AdminResponseDTO>> awaitTenantAdmins(
+      Future<List<AdminResponseDTO>> pendingAdmins, long deadline, Integer tenantId) {
+    try {
+      return Optional.ofNullable(
+          pendingAdmins.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+    } catch (TimeoutException e) {
+      log.warn(
+          "No admins of tenant {} received within {} ms, returning tenant without them",
+          tenantId,
+          enrichmentTimeoutMillis);
+      return Optional.empty();
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Resolve the headers of calls to the user admin service. They depend on the current request and
+   * security context, so they must be resolved on the thread of the request.
+   *
+   * @return the headers
+   */
+  public HttpHeaders getDefaultHeaders() {
+    var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     Optional<Long> optionalTenant = tenantResolverService.tryResolve();
     if (optionalTenant.isPresent()) {
       headers.add("tenantId", optionalTenant.get().toString());
     }
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
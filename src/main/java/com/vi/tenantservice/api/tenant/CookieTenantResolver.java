@@ -1,8 +1,7 @@
 package com.vi.tenantservice.api.tenant;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.vi.tenantservice.api.util.JsonConverter;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Base64;
@@ -60,15 +59,13 @@ public class CookieTenantResolver implements TenantResolver {
     String[] chunks = token.getValue().split("\\.");
     Base64.Decoder decoder = Base64.getUrlDecoder();
     String payload = new String(decoder.decode(chunks[1]));
-    var objectMapper =
-        new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     try {
-      Map<String, Object> map = objectMapper.readValue(payload, Map.class);
+      Map<String, Object> map = JsonConverter.convertObjectMapFromJson(payload);
       Integer tenantIdFromCookie = (Integer) map.get(TENANT_ID);
       return tenantIdFromCookie == null
           ? Optional.empty()
           : Optional.of(Long.valueOf(tenantIdFromCookie));
-    } catch (JsonProcessingException e) {
+    } catch (RuntimeJsonMappingException e) {
       return Optional.empty();
     }
   }
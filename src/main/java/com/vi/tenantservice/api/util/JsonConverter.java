@@ -5,32 +5,70 @@ import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import com.google.common.collect.Maps;
+import com.vi.tenantservice.api.metrics.TenantMetrics;
 import com.vi.tenantservice.api.model.TenantSettings;
+import io.micrometer.core.instrument.Tags;
 import java.util.Map;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Converts json using shared readers and writers. Readers and writers are immutable and thread
+ * safe, so the mapper configuration and the deserializers are built only once.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
 public class JsonConverter {
 
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper()
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+          .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+
+  private static final ObjectReader TENANT_SETTINGS_READER =
+      OBJECT_MAPPER.readerFor(TenantSettings.class);
+
+  private static final ObjectReader STRING_MAP_READER =
+      OBJECT_MAPPER.readerFor(new TypeReference<Map<String, String>>() {});
+
+  private static final ObjectReader OBJECT_MAP_READER =
+      OBJECT_MAPPER.readerFor(new TypeReference<Map<String, Object>>() {});
+
+  private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
+
+  private static final String JSON_TIMER = "tenant.json";
+  private static final Tags PARSE_TAGS = Tags.of("operation", "parse");
+  private static final Tags SERIALIZE_TAGS = Tags.of("operation", "serialize");
+
+  /**
+   * Creates a reader sharing the configuration and the deserializer cache of this converter. The
+   * reader should be kept and reused by the caller.
+   *
+   * @param clazz the type to read
+   * @return the reader
+   */
+  public static ObjectReader readerFor(Class<?> clazz) {
+    return OBJECT_MAPPER.readerFor(clazz);
+  }
+
   public static String convertToJson(Object object) {
     return serializeToJsonString(object);
   }
 
   public static TenantSettings convertFromJson(String jsonString) {
-    return deserializeFromJsonString(jsonString, TenantSettings.class);
+    return deserializeFromJsonString(jsonString, TENANT_SETTINGS_READER);
   }
 
   public static Map<String, String> convertMapFromJson(String jsonString) {
     if (jsonString == null) {
       return Maps.newHashMap();
     }
-    var result =
-        deserializeMapFromJsonString(jsonString, new TypeReference<Map<String, String>>() {});
+    Map<String, String> result = deserializeFromJsonString(jsonString, STRING_MAP_READER);
     if (result == null) {
       log.warn("Could not deserialize map from json.");
       return Maps.newHashMap();
@@ -38,26 +76,14 @@ public class JsonConverter {
     return result;
   }
 
-  private static <T> T deserializeFromJsonString(String jsonString, Class<T> clazz) {
-    try {
-      var objectMapper =
-          new ObjectMapper()
-              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-              .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
-      return objectMapper.readValue(jsonString, clazz);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeJsonMappingException(e.getMessage());
-    }
+  public static Map<String, Object> convertObjectMapFromJson(String jsonString) {
+    return deserializeFromJsonString(jsonString, OBJECT_MAP_READER);
   }
 
-  private static <T, Y> Map<T, Y> deserializeMapFromJsonString(
-      String jsonString, TypeReference<Map<T, Y>> typeReference) {
+  private static <T> T deserializeFromJsonString(String jsonString, ObjectReader objectReader) {
     try {
-      var objectMapper =
-          new ObjectMapper()
-              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-              .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
-      return objectMapper.readValue(jsonString, typeReference);
+      return TenantMetrics.record(
+          JSON_TIMER, PARSE_TAGS, () -> objectReader.<T>readValue(jsonString));
     } catch (JsonProcessingException e) {
       throw new RuntimeJsonMappingException(e.getMessage());
     }
@@ -65,7 +91,8 @@ public class JsonConverter {
 
   private static <T> String serializeToJsonString(T object) {
     try {
-      return new ObjectMapper().writeValueAsString(object);
+      return TenantMetrics.record(
+          JSON_TIMER, SERIALIZE_TAGS, () -> OBJECT_WRITER.writeValueAsString(object));
     } catch (JsonProcessingException e) {
       throw new RuntimeJsonMappingException(e.getMessage());
     }
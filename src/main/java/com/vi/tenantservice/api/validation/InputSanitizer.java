@@ -1,40 +1,152 @@
 package com.vi.tenantservice.api.validation;
 
+import com.vi.tenantservice.api.config.InputSanitizerProperties;
+import com.vi.tenantservice.api.config.InputSanitizerProperties.PolicyDefinition;
+import com.vi.tenantservice.api.metrics.TenantMetrics;
+import io.micrometer.core.instrument.Tags;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
 import org.springframework.stereotype.Component;
 
+/**
+ * Sanitizes html input. Policy factories are immutable and thread safe, so they are built once and
+ * shared. Besides the built-in policies further policies can be configured by name and assigned to
+ * fields, see {@link InputSanitizerProperties}.
+ */
 @Component
 public class InputSanitizer {
 
+  public static final String PLAIN_TEXT_POLICY = "plainText";
+  public static final String FORMATTING_POLICY = "formatting";
+  public static final String FORMATTING_AND_LINKS_POLICY = "formattingAndLinks";
+
+  private static final String SANITIZER_TIMER = "tenant.sanitizer";
+  private static final String POLICY_TAG = "policy";
+
+  private static final PolicyFactory PLAIN_TEXT = new HtmlPolicyBuilder().toFactory();
+
+  private static final PolicyFactory FORMATTING =
+      new HtmlPolicyBuilder()
+          .allowStyling()
+          .allowCommonInlineFormattingElements()
+          .allowCommonBlockElements()
+          .toFactory();
+
+  private static final PolicyFactory FORMATTING_AND_LINKS =
+      new HtmlPolicyBuilder()
+          .allowStyling()
+          .allowStandardUrlProtocols()
+          .allowCommonInlineFormattingElements()
+          .allowCommonBlockElements()
+          .allowElements("a")
+          .allowAttributes("href", "target")
+          .onElements("a")
+          .allowElements("img")
+          .allowAttributes("src", "width", "height")
+          .onElements("img")
+          .toFactory();
+
+  private final Map<String, PolicyFactory> policies;
+  private final Map<String, String> fieldPolicies;
+
+  public InputSanitizer(InputSanitizerProperties inputSanitizerProperties) {
+    Map<String, PolicyFactory> registeredPolicies = new HashMap<>();
+    registeredPolicies.put(PLAIN_TEXT_POLICY, PLAIN_TEXT);
+    registeredPolicies.put(FORMATTING_POLICY, FORMATTING);
+    registeredPolicies.put(FORMATTING_AND_LINKS_POLICY, FORMATTING_AND_LINKS);
+    inputSanitizerProperties
+        .getDefinitions()
+        .forEach(
+            (name, definition) -> {
+              if (registeredPolicies.containsKey(name)) {
+                throw new IllegalStateException(
+                    String.format("Sanitizer policy %s is already defined", name));
+              }
+              registeredPolicies.put(name, toPolicyFactory(definition));
+            });
+    this.policies = Map.copyOf(registeredPolicies);
+    inputSanitizerProperties
+        .getFields()
+        .forEach(
+            (fieldName, policyName) -> {
+              if (!policies.containsKey(policyName)) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Sanitizer policy %s of field %s is not defined", policyName, fieldName));
+              }
+            });
+    this.fieldPolicies = Map.copyOf(inputSanitizerProperties.getFields());
+  }
+
   public String sanitize(String input) {
-    var sanitizer = new HtmlPolicyBuilder().toFactory();
-    return sanitizer.sanitize(input);
+    return sanitize(input, PLAIN_TEXT_POLICY, PLAIN_TEXT);
   }
 
   public String sanitizeAllowingFormatting(String input) {
-    var sanitizer =
-        new HtmlPolicyBuilder()
-            .allowStyling()
-            .allowCommonInlineFormattingElements()
-            .allowCommonBlockElements()
-            .toFactory();
-    return sanitizer.sanitize(input);
+    return sanitize(input, FORMATTING_POLICY, FORMATTING);
   }
 
   public String sanitizeAllowingFormattingAndLinks(String input) {
-    var sanitizer =
-        new HtmlPolicyBuilder()
-            .allowStyling()
-            .allowStandardUrlProtocols()
-            .allowCommonInlineFormattingElements()
-            .allowCommonBlockElements()
-            .allowElements("a")
-            .allowAttributes("href", "target")
-            .onElements("a")
-            .allowElements("img")
-            .allowAttributes("src", "width", "height")
-            .onElements("img")
-            .toFactory();
-    return sanitizer.sanitize(input);
+    return sanitize(input, FORMATTING_AND_LINKS_POLICY, FORMATTING_AND_LINKS);
+  }
+
+  /**
+   * Sanitizes the input with a built-in or configured policy.
+   *
+   * @param input the input to sanitize
+   * @param policyName the name of the policy
+   * @return the sanitized input
+   */
+  public String sanitize(String input, String policyName) {
+    var policy = policies.get(policyName);
+    if (policy == null) {
+      throw new IllegalArgumentException(
+          String.format("Sanitizer policy %s is not defined", policyName));
+    }
+    return sanitize(input, policyName, policy);
+  }
+
+  /**
+   * Sanitizes the value of a field with the policy configured for the field, or with the default
+   * policy if none is configured.
+   *
+   * @param fieldName the name of the field
+   * @param input the input to sanitize
+   * @param defaultPolicyName the name of the policy to use if none is configured for the field
+   * @return the sanitized input
+   */
+  public String sanitizeField(String fieldName, String input, String defaultPolicyName) {
+    return sanitize(input, fieldPolicies.getOrDefault(fieldName, defaultPolicyName));
+  }
+
+  private static String sanitize(String input, String policyName, PolicyFactory policy) {
+    return TenantMetrics.record(
+        SANITIZER_TIMER, Tags.of(POLICY_TAG, policyName), () -> policy.sanitize(input));
+  }
+
+  public Set<String> getPolicyNames() {
+    return policies.keySet();
+  }
+
+  private static PolicyFactory toPolicyFactory(PolicyDefinition definition) {
+    var policyBuilder = new HtmlPolicyBuilder();
+    if (definition.isAllowStyling()) {
+      policyBuilder.allowStyling();
+    }
+    if (definition.isAllowStandardUrlProtocols()) {
+      policyBuilder.allowStandardUrlProtocols();
+    }
+    policyBuilder.allowElements(definition.getAllowedElements().toArray(String[]::new));
+    definition
+        .getAllowedAttributes()
+        .forEach(
+            (element, attributes) ->
+                policyBuilder
+                    .allowAttributes(attributes.toArray(String[]::new))
+                    .onElements(element));
+    return policyBuilder.toFactory();
   }
 }
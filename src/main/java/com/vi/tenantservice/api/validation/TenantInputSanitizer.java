@@ -1,14 +1,22 @@
 package com.vi.tenantservice.api.validation;
 
+import static com.vi.tenantservice.api.config.ExecutorConfig.SANITIZATION_EXECUTOR;
+import static com.vi.tenantservice.api.validation.InputSanitizer.FORMATTING_AND_LINKS_POLICY;
+import static com.vi.tenantservice.api.validation.InputSanitizer.FORMATTING_POLICY;
+import static com.vi.tenantservice.api.validation.InputSanitizer.PLAIN_TEXT_POLICY;
+
 import com.vi.tenantservice.api.model.MultilingualContent;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
 import com.vi.tenantservice.api.model.Theming;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -18,11 +26,14 @@ public class TenantInputSanitizer {
 
   private final @NonNull InputSanitizer inputSanitizer;
 
+  @Qualifier(SANITIZATION_EXECUTOR)
+  private final @NonNull Executor sanitizationExecutor;
+
   public MultilingualTenantDTO sanitize(MultilingualTenantDTO input) {
     log.info("Sanitizing input DTO");
     MultilingualTenantDTO output = copyNotSanitizedAttributes(input);
-    output.setName(inputSanitizer.sanitize(input.getName()));
-    output.setSubdomain(inputSanitizer.sanitize(input.getSubdomain()));
+    output.setName(sanitizePlainText("name", input.getName()));
+    output.setSubdomain(sanitizePlainText("subdomain", input.getSubdomain()));
     sanitizeTheming(input, output);
     sanitizeContent(input, output);
     return output;
@@ -43,52 +54,81 @@ public class TenantInputSanitizer {
   private void sanitizeTheming(MultilingualTenantDTO input, MultilingualTenantDTO output) {
     Theming theming = input.getTheming();
     if (theming != null) {
-      output.getTheming().setLogo(inputSanitizer.sanitize(theming.getLogo()));
-      output.getTheming().setFavicon(inputSanitizer.sanitize(theming.getFavicon()));
-      output.getTheming().setPrimaryColor(inputSanitizer.sanitize(theming.getPrimaryColor()));
-      output.getTheming().setSecondaryColor(inputSanitizer.sanitize(theming.getSecondaryColor()));
-      output.getTheming().setAssociationLogo(inputSanitizer.sanitize(theming.getAssociationLogo()));
+      output.getTheming().setLogo(sanitizePlainText("logo", theming.getLogo()));
+      output.getTheming().setFavicon(sanitizePlainText("favicon", theming.getFavicon()));
+      output
+          .getTheming()
+          .setPrimaryColor(sanitizePlainText("primaryColor", theming.getPrimaryColor()));
+      output
+          .getTheming()
+          .setSecondaryColor(sanitizePlainText("secondaryColor", theming.getSecondaryColor()));
+      output
+          .getTheming()
+          .setAssociationLogo(sanitizePlainText("associationLogo", theming.getAssociationLogo()));
     }
   }
 
+  private String sanitizePlainText(String fieldName, String input) {
+    return inputSanitizer.sanitizeField(fieldName, input, PLAIN_TEXT_POLICY);
+  }
+
   private void sanitizeContent(MultilingualTenantDTO input, MultilingualTenantDTO output) {
     var content = input.getContent();
     if (content != null) {
-      output
-          .getContent()
-          .setImpressum(
-              sanitizeAllTranslations(
-                  content.getImpressum(), inputSanitizer::sanitizeAllowingFormattingAndLinks));
-      output
-          .getContent()
-          .setClaim(
-              sanitizeAllTranslations(
-                  content.getClaim(), inputSanitizer::sanitizeAllowingFormatting));
-      output
-          .getContent()
-          .setPrivacy(
-              sanitizeAllTranslations(
-                  content.getPrivacy(), inputSanitizer::sanitizeAllowingFormattingAndLinks));
-      output
-          .getContent()
-          .setTermsAndConditions(
-              sanitizeAllTranslations(
-                  content.getTermsAndConditions(),
-                  inputSanitizer::sanitizeAllowingFormattingAndLinks));
+      var impressum =
+          sanitizeAllTranslations("impressum", content.getImpressum(), FORMATTING_AND_LINKS_POLICY);
+      var claim = sanitizeAllTranslations("claim", content.getClaim(), FORMATTING_POLICY);
+      var privacy =
+          sanitizeAllTranslations("privacy", content.getPrivacy(), FORMATTING_AND_LINKS_POLICY);
+      var termsAndConditions =
+          sanitizeAllTranslations(
+              "termsAndConditions", content.getTermsAndConditions(), FORMATTING_AND_LINKS_POLICY);
+      output.getContent().setImpressum(impressum.join());
+      output.getContent().setClaim(claim.join());
+      output.getContent().setPrivacy(privacy.join());
+      output.getContent().setTermsAndConditions(termsAndConditions.join());
       output.getContent().setConfirmPrivacy(content.getConfirmPrivacy());
       output.getContent().setConfirmTermsAndConditions(content.getConfirmTermsAndConditions());
     }
   }
 
-  private Map<String, String> sanitizeAllTranslations(
-      Map<String, String> translations, Function<String, String> sanitizeFuntion) {
-    if (translations != null) {
-      return translations.entrySet().stream()
-          .filter(entry -> entry.getKey() != null)
-          .collect(
-              Collectors.toMap(
-                  Map.Entry::getKey, stringEntry -> sanitizeFuntion.apply(stringEntry.getValue())));
+  /**
+   * Sanitizes all translations of a field in parallel on the sanitization executor.
+   *
+   * @param fieldName the field name
+   * @param translations the translations by language
+   * @param defaultPolicyName the policy of the field, if no other policy is configured
+   * @return the sanitized translations, once all translations are sanitized
+   */
+  private CompletableFuture<Map<String, String>> sanitizeAllTranslations(
+      String fieldName, Map<String, String> translations, String defaultPolicyName) {
+    if (translations == null) {
+      return CompletableFuture.completedFuture(null);
     }
-    return translations;
+    long start = System.nanoTime();
+    Map<String, CompletableFuture<String>> sanitizedTranslations = new HashMap<>();
+    translations.forEach(
+        (language, translation) -> {
+          if (language != null) {
+            sanitizedTranslations.put(
+                language,
+                CompletableFuture.supplyAsync(
+                    () -> inputSanitizer.sanitizeField(fieldName, translation, defaultPolicyName),
+                    sanitizationExecutor));
+          }
+        });
+    return CompletableFuture.allOf(sanitizedTranslations.values().toArray(CompletableFuture[]::new))
+        .thenApply(
+            allSanitized -> {
+              Map<String, String> result = new HashMap<>();
+              sanitizedTranslations.forEach(
+                  (language, sanitized) -> result.put(language, sanitized.join()));
+              log.debug(
+                  "Sanitized {} translations of {} in {} ms",
+                  result.size(),
+                  fieldName,
+                  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+              return result;
+            });
   }
 }
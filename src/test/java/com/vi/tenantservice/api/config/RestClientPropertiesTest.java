@@ -0,0 +1,41 @@
+package com.vi.tenantservice.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vi.tenantservice.api.config.RestClientProperties.ClientSettings;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RestClientPropertiesTest {
+
+  @Test
+  void getSettings_Should_overrideDefaultsWithServiceSettings_When_serviceIsConfigured() {
+    // given
+    var restClientProperties = new RestClientProperties();
+    restClientProperties.getDefaults().setMaxConnectionsPerRoute(20);
+    restClientProperties.getDefaults().setResponseTimeout(Duration.ofSeconds(10));
+    var serviceSettings = new ClientSettings();
+    serviceSettings.setResponseTimeout(Duration.ofSeconds(3));
+    restClientProperties.getServices().put("user-admin-service", serviceSettings);
+
+    // when
+    var settings = restClientProperties.getSettings("user-admin-service");
+
+    // then
+    assertThat(settings.getMaxConnectionsPerRoute()).isEqualTo(20);
+    assertThat(settings.getResponseTimeout()).isEqualTo(Duration.ofSeconds(3));
+  }
+
+  @Test
+  void getSettings_Should_returnDefaults_When_serviceIsNotConfigured() {
+    // given
+    var restClientProperties = new RestClientProperties();
+    restClientProperties.getDefaults().setConnectTimeout(Duration.ofSeconds(2));
+
+    // when
+    var settings = restClientProperties.getSettings("consulting-type-service");
+
+    // then
+    assertThat(settings.getConnectTimeout()).isEqualTo(Duration.ofSeconds(2));
+  }
+}
@@ -0,0 +1,74 @@
+package com.vi.tenantservice.api.config.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class DownstreamHeadersInterceptorTest {
+
+  private final DownstreamHeadersInterceptor interceptor = new DownstreamHeadersInterceptor();
+
+  @Test
+  void intercept_Should_addHeadersOfCurrentCall_When_CalledWithinWithHeaders() {
+    // given
+    var headers = new HttpHeaders();
+    headers.add("tenantId", "1");
+    headers.add("Authorization", "Bearer token");
+    var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/"));
+
+    // when
+    DownstreamHeadersInterceptor.withHeaders(headers, () -> intercept(request));
+
+    // then
+    assertThat(request.getHeaders().getFirst("tenantId")).isEqualTo("1");
+    assertThat(request.getHeaders().getFirst("Authorization")).isEqualTo("Bearer token");
+  }
+
+  @Test
+  void intercept_Should_keepHeadersOfRequest_When_HeaderIsAlreadySet() {
+    // given
+    var headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    var request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://localhost/"));
+    request.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+
+    // when
+    DownstreamHeadersInterceptor.withHeaders(headers, () -> intercept(request));
+
+    // then
+    assertThat(request.getHeaders().get(HttpHeaders.CONTENT_TYPE))
+        .containsExactly(MediaType.TEXT_PLAIN_VALUE);
+  }
+
+  @Test
+  void intercept_Should_notAddHeaders_When_CalledOutsideOfWithHeaders() {
+    // given
+    var headers = new HttpHeaders();
+    headers.add("tenantId", "1");
+    DownstreamHeadersInterceptor.withHeaders(headers, () -> {});
+    var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/"));
+
+    // when
+    intercept(request);
+
+    // then
+    assertThat(request.getHeaders().containsKey("tenantId")).isFalse();
+  }
+
+  private void intercept(MockClientHttpRequest request) {
+    try {
+      interceptor.intercept(
+          request, new byte[0], (req, body) -> new MockClientHttpResponse(body, HttpStatus.OK));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
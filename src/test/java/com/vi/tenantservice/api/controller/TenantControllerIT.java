@@ -3,11 +3,15 @@ package com.vi.tenantservice.api.controller;
 import static com.vi.tenantservice.api.authorisation.UserRole.RESTRICTED_AGENCY_ADMIN;
 import static com.vi.tenantservice.api.authorisation.UserRole.SINGLE_TENANT_ADMIN;
 import static com.vi.tenantservice.api.authorisation.UserRole.TENANT_ADMIN;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -17,6 +21,7 @@ import static org.springframework.security.test.web.servlet.setup.SecurityMockMv
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -35,7 +40,11 @@ import com.vi.tenantservice.api.tenant.SubdomainExtractor;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
 import com.vi.tenantservice.api.util.MultilingualTenantTestDataBuilder;
 import com.vi.tenantservice.config.security.AuthorisationService;
+import jakarta.servlet.http.Cookie;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -76,6 +85,8 @@ class TenantControllerIT {
   private static final String NON_EXISTING_TENANT_VIA_ADMIN = TENANTADMIN_RESOURCE_SLASH + "4";
   private static final String NON_EXISTING_TENANT = TENANT_RESOURCE_SLASH + "4";
   private static final String NON_EXISTING_PUBLIC_TENANT = PUBLIC_TENANT_RESOURCE_BY_ID + "4";
+  private static final String EXISTING_PUBLIC_TENANT_FAVICON =
+      EXISTING_PUBLIC_TENANT + "/assets/favicon";
   private static final String AUTHORITY_WITHOUT_PERMISSIONS = "technical";
   private static final String USERNAME = "not important";
   private static final String EXISTING_SUBDOMAIN = "examplesubdomain";
@@ -112,10 +123,8 @@ class TenantControllerIT {
   public void setup() {
     mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
     givenSingleTenantAdminCanChangeLegalTexts(true);
-    when(consultingTypeServiceApiControllerFactory.createControllerApi())
+    when(consultingTypeServiceApiControllerFactory.getControllerApi())
         .thenReturn(consultingTypeControllerApi);
-    when(consultingTypeControllerApi.getApiClient())
-        .thenReturn(mock(com.vi.tenantservice.consultingtypeservice.generated.ApiClient.class));
 
     when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(mock(HttpHeaders.class));
     when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders())
@@ -248,12 +257,12 @@ class TenantControllerIT {
       getMultilingualTenant_Should_returnStatusOk_When_calledWithValidTenantCreateParamsAndValidAuthority()
           throws Exception {
     AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
-    Mockito.when(userAdminService.getTenantAdmins(1))
+    Mockito.when(userAdminService.getTenantAdmins(eq(1), any()))
         .thenReturn(
             Lists.newArrayList(
                 adminResponseWithMail("admin@admin.com"),
                 adminResponseWithMail("admin1@admin.com")));
-    when(consultingTypeService.getConsultingTypesByTenantId(1))
+    when(consultingTypeService.getConsultingTypesByTenantId(eq(1), any()))
         .thenReturn(
             new com.vi.tenantservice.consultingtypeservice.generated.web.model
                     .FullConsultingTypeResponseDTO()
@@ -329,7 +338,7 @@ class TenantControllerIT {
     when(authorisationService.hasRole("tenant-admin")).thenReturn(true);
     AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
     giveAuthorisationServiceReturnProperAuthoritiesForRole(TENANT_ADMIN);
-    when(consultingTypeService.getConsultingTypesByTenantId(1))
+    when(consultingTypeService.getCurrentConsultingTypesByTenantId(1))
         .thenReturn(
             new com.vi.tenantservice.consultingtypeservice.generated.web.model
                     .FullConsultingTypeResponseDTO()
@@ -364,7 +373,7 @@ class TenantControllerIT {
     when(authorisationService.findTenantIdInAccessToken()).thenReturn(Optional.of(1L));
     when(authorisationService.hasRole(SINGLE_TENANT_ADMIN.getValue())).thenReturn(true);
     AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
-    when(consultingTypeService.getConsultingTypesByTenantId(1))
+    when(consultingTypeService.getCurrentConsultingTypesByTenantId(1))
         .thenReturn(
             new com.vi.tenantservice.consultingtypeservice.generated.web.model
                     .FullConsultingTypeResponseDTO()
@@ -611,6 +620,206 @@ class TenantControllerIT {
         .andReturn();
   }
 
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnETagAndCacheHeaders() throws Exception {
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", notNullValue()))
+        .andExpect(header().string("Cache-Control", "no-cache, private"))
+        .andExpect(header().doesNotExist("Last-Modified"));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnGzipBody_When_clientAcceptsGzip()
+      throws Exception {
+    var response =
+        mockMvc
+            .perform(
+                get(EXISTING_PUBLIC_TENANT)
+                    .header("Accept-Encoding", "gzip")
+                    .contentType(APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andReturn()
+            .getResponse();
+
+    try (var body =
+        new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+      assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).startsWith("{\"id\":1,");
+    }
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnStatusNotModified_When_etagMatches()
+      throws Exception {
+    var eTag =
+        mockMvc
+            .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(
+            get(EXISTING_PUBLIC_TENANT).header("If-None-Match", eTag).contentType(APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", eTag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnStatusNotModified_When_gzipEtagMatches()
+      throws Exception {
+    var eTag =
+        mockMvc
+            .perform(
+                get(EXISTING_PUBLIC_TENANT)
+                    .header("Accept-Encoding", "gzip")
+                    .contentType(APPLICATION_JSON))
+            .andExpect(header().string("ETag", endsWith("-gzip\"")))
+            .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(
+            get(EXISTING_PUBLIC_TENANT)
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", eTag)
+                .contentType(APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", eTag))
+        .andExpect(header().string("Vary", containsString("Accept-Encoding")));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnStatusOk_When_gzipEtagIsSentWithoutGzip()
+      throws Exception {
+    var eTag =
+        mockMvc
+            .perform(
+                get(EXISTING_PUBLIC_TENANT)
+                    .header("Accept-Encoding", "gzip")
+                    .contentType(APPLICATION_JSON))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(
+            get(EXISTING_PUBLIC_TENANT).header("If-None-Match", eTag).contentType(APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist("Content-Encoding"))
+        .andExpect(jsonPath("$.id").value(1));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnStatusOk_When_etagOfOtherLanguageIsSent()
+      throws Exception {
+    var eTag =
+        mockMvc
+            .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(
+            get(EXISTING_PUBLIC_TENANT)
+                .header("If-None-Match", eTag)
+                .cookie(new Cookie("lang", "en"))
+                .contentType(APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1));
+  }
+
+  @Test
+  @Sql(value = "/database/MultiTenantData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+  void getRestrictedTenantDataByTenantId_Should_returnVersionedThemingAssetUrls() throws Exception {
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath("$.theming.faviconUrl")
+                .value("/service/tenant/public/id/1/assets/favicon?v=1640736000000"))
+        .andExpect(
+            jsonPath("$.theming.logoUrl")
+                .value("/service/tenant/public/id/1/assets/logo?v=1640736000000"));
+  }
+
+  @Test
+  @Sql(value = "/database/MultiTenantData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+  void getTenantThemingAsset_Should_returnDecodedImage_When_calledWithVersionAndNoAuthentication()
+      throws Exception {
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT_FAVICON).param("v", "1640736000000"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "image/png"))
+        .andExpect(header().string("Content-Length", "68"))
+        .andExpect(header().string("ETag", notNullValue()))
+        .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+  }
+
+  @Test
+  @Sql(value = "/database/MultiTenantData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+  void getTenantThemingAsset_Should_returnShortLivedCacheControl_When_calledWithoutVersion()
+      throws Exception {
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT_FAVICON))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Cache-Control", "max-age=300, public"));
+  }
+
+  @Test
+  @Sql(value = "/database/MultiTenantData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+  void getTenantThemingAsset_Should_returnShortLivedCacheControl_When_calledWithOutdatedVersion()
+      throws Exception {
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT_FAVICON).param("v", "1640649600000"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Cache-Control", "max-age=300, public"));
+  }
+
+  @Test
+  @Sql(value = "/database/MultiTenantData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+  void getTenantThemingAsset_Should_returnStatusNotModified_When_etagMatches() throws Exception {
+    var eTag =
+        mockMvc
+            .perform(get(EXISTING_PUBLIC_TENANT_FAVICON))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT_FAVICON).header("If-None-Match", eTag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  @Sql(value = "/database/MultiTenantData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+  void getTenantThemingAsset_Should_returnPartialContent_When_rangeIsRequested() throws Exception {
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT_FAVICON).header("Range", "bytes=0-7"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string("Content-Range", "bytes 0-7/68"));
+  }
+
+  @Test
+  void getTenantThemingAsset_Should_returnStatusNotFound_When_imageIsNotValidBase64()
+      throws Exception {
+    mockMvc.perform(get(EXISTING_PUBLIC_TENANT + "/assets/logo")).andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getTenantThemingAsset_Should_returnStatusNotFound_When_tenantDoesNotExist()
+      throws Exception {
+    mockMvc
+        .perform(get(NON_EXISTING_PUBLIC_TENANT + "/assets/favicon"))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   void
       getRestrictedTenantDataByTenantId_Should_returnStatusNotFound_When_calledWithNonExistingTenantIdAndNoAuthentication()
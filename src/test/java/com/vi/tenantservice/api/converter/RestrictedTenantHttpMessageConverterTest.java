@@ -0,0 +1,127 @@
+package com.vi.tenantservice.api.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RestrictedTenantHttpMessageConverterTest {
+
+  private static final String ETAG = "\"abc\"";
+
+  private final ObjectMapper objectMapper = spy(new ObjectMapper());
+  private final RestrictedTenantDTO restrictedTenant = new RestrictedTenantDTO(1L, "tenant");
+  private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+  private RestrictedTenantHttpMessageConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = new RestrictedTenantHttpMessageConverter(objectMapper);
+    ReflectionTestUtils.setField(converter, "maxCachedBytes", 1024L);
+    ReflectionTestUtils.setField(converter, "cachedBodyTtlSeconds", 60L);
+    converter.init();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void write_Should_serializeTenantOnlyOnce_When_etagIsUnchanged() throws IOException {
+    // when
+    var firstResponse = write(ETAG);
+    var secondResponse = write(ETAG);
+
+    // then
+    verify(objectMapper, times(1)).writeValueAsBytes(restrictedTenant);
+    assertThat(secondResponse.getBodyAsString()).isEqualTo(firstResponse.getBodyAsString());
+    assertThat(secondResponse.getBodyAsString()).contains("\"name\":\"tenant\"");
+    assertThat(secondResponse.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    assertThat(secondResponse.getHeaders().getETag()).isEqualTo(ETAG);
+  }
+
+  @Test
+  void write_Should_writeCachedGzipBody_When_clientAcceptsGzip() throws IOException {
+    // given
+    request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+
+    // when
+    write(ETAG);
+    var response = write(ETAG);
+
+    // then
+    verify(objectMapper, times(1)).writeValueAsBytes(restrictedTenant);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"abc-gzip\"");
+    assertThat(gunzip(response.getBodyAsBytes())).contains("\"name\":\"tenant\"");
+  }
+
+  @Test
+  void representationETag_Should_distinguishGzipFromIdentityEtag() {
+    // when
+    var identityETag = RestrictedTenantHttpMessageConverter.representationETag("abc");
+    request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    var gzipETag = RestrictedTenantHttpMessageConverter.representationETag("abc");
+
+    // then
+    assertThat(identityETag).isEqualTo("abc");
+    assertThat(gzipETag).isEqualTo("abc-gzip");
+  }
+
+  @Test
+  void write_Should_notCompress_When_gzipIsExcluded() throws IOException {
+    // given
+    request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+
+    // when
+    var response = write(ETAG);
+
+    // then
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(response.getBodyAsString()).contains("\"name\":\"tenant\"");
+  }
+
+  @Test
+  void write_Should_serializeOnEveryWrite_When_responseHasNoEtag() throws IOException {
+    // when
+    write(null);
+    write(null);
+
+    // then
+    verify(objectMapper, times(2)).writeValueAsBytes(restrictedTenant);
+  }
+
+  private MockHttpOutputMessage write(String eTag) throws IOException {
+    var outputMessage = new MockHttpOutputMessage();
+    if (eTag != null) {
+      outputMessage.getHeaders().setETag(eTag);
+    }
+    converter.write(restrictedTenant, MediaType.APPLICATION_JSON, outputMessage);
+    return outputMessage;
+  }
+
+  private static String gunzip(byte[] body) throws IOException {
+    try (var gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return new String(gzipInputStream.readAllBytes());
+    }
+  }
+}
@@ -11,19 +11,22 @@ import com.vi.tenantservice.api.model.RestrictedTenantDTO;
 import com.vi.tenantservice.api.model.Settings;
 import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantEntity;
-import com.vi.tenantservice.api.service.TemplateDescriptionServiceException;
+import com.vi.tenantservice.api.model.TenantSummary;
 import com.vi.tenantservice.api.service.TemplateRenderer;
 import com.vi.tenantservice.api.service.TemplateService;
 import com.vi.tenantservice.api.util.MultilingualTenantTestDataBuilder;
 import freemarker.template.TemplateException;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class TenantConverterTest {
@@ -64,7 +67,7 @@ class TenantConverterTest {
 
   @Test
   void toRestrictedTenantDTO_should_convertAttributesProperly()
-      throws TemplateException, IOException, TemplateDescriptionServiceException {
+      throws TemplateException, IOException {
     // given
     MultilingualTenantDTO tenantDTO =
         new MultilingualTenantTestDataBuilder()
@@ -76,10 +79,9 @@ class TenantConverterTest {
             .build();
     tenantDTO.getSettings().extendedSettings(null);
 
-    when(templateService.getMultilingualDataProtectionTemplate())
+    when(templateService.getDataProtectionTemplate("de"))
         .thenReturn(
-            Map.of(
-                "de",
+            Optional.of(
                 new DataProtectionContactTemplateDTO()
                     .noAgencyContext(
                         new NoAgencyContextDTO().dataProtectionOfficerContact("test"))));
@@ -144,6 +146,61 @@ class TenantConverterTest {
     return translations.get("de");
   }
 
+  @Test
+  void toRestrictedTenantDTO_should_containVersionedThemingAssetUrls_When_urlPrefixIsConfigured() {
+    // given
+    ReflectionTestUtils.setField(tenantConverter, "themingAssetUrlPrefix", "/assets/");
+    MultilingualTenantDTO tenantDTO =
+        new MultilingualTenantTestDataBuilder()
+            .tenantDTO()
+            .withId(1L)
+            .withContent()
+            .withTheming()
+            .build();
+    TenantEntity entity = tenantConverter.toEntity(tenantDTO);
+    entity.setUpdateDate(LocalDateTime.of(2022, 1, 1, 0, 0));
+
+    // when
+    RestrictedTenantDTO restrictedTenantDTO =
+        tenantConverter.toRestrictedTenantDTO(entity, TenantConverter.DE);
+
+    // then
+    assertThat(restrictedTenantDTO.getTheming().getLogoUrl())
+        .isEqualTo("/assets/1/assets/logo?v=1640995200000");
+    assertThat(restrictedTenantDTO.getTheming().getFaviconUrl())
+        .isEqualTo("/assets/1/assets/favicon?v=1640995200000");
+    assertThat(restrictedTenantDTO.getTheming().getAssociationLogoUrl()).isNull();
+    assertThat(restrictedTenantDTO.getTheming().getLogo()).isEqualTo(entity.getThemingLogo());
+  }
+
+  @Test
+  void toDTO_should_omitInlineThemingImagesExceptForMultilingualDTO_When_configured() {
+    // given
+    ReflectionTestUtils.setField(tenantConverter, "themingAssetUrlPrefix", "/assets/");
+    ReflectionTestUtils.setField(tenantConverter, "omitInlineThemingImages", true);
+    MultilingualTenantDTO tenantDTO =
+        new MultilingualTenantTestDataBuilder()
+            .tenantDTO()
+            .withId(1L)
+            .withContent()
+            .withTheming()
+            .build();
+    TenantEntity entity = tenantConverter.toEntity(tenantDTO);
+
+    // when
+    TenantDTO converted = tenantConverter.toDTO(entity, TenantConverter.DE);
+    MultilingualTenantDTO multilingualConverted = tenantConverter.toMultilingualDTO(entity);
+
+    // then
+    assertThat(converted.getTheming().getLogo()).isNull();
+    assertThat(converted.getTheming().getFavicon()).isNull();
+    assertThat(converted.getTheming().getLogoUrl()).isEqualTo("/assets/1/assets/logo");
+    assertThat(converted.getTheming().getPrimaryColor())
+        .isEqualTo(tenantDTO.getTheming().getPrimaryColor());
+    assertThat(multilingualConverted.getTheming().getLogo())
+        .isEqualTo(tenantDTO.getTheming().getLogo());
+  }
+
   @Test
   void toBasicLicensingTenantDTO_should_convertAttributesProperly() {
     // given
@@ -155,10 +212,18 @@ class TenantConverterTest {
             .withLicensing()
             .build();
     TenantEntity entity = tenantConverter.toEntity(tenantDTO);
+    TenantSummary tenantSummary =
+        new TenantSummary(
+            entity.getId(),
+            entity.getName(),
+            entity.getSubdomain(),
+            entity.getLicensingAllowedNumberOfUsers(),
+            entity.getCreateDate(),
+            entity.getUpdateDate());
 
     // when
     BasicTenantLicensingDTO basicTenantLicensingDTO =
-        tenantConverter.toBasicLicensingTenantDTO(entity);
+        tenantConverter.toBasicLicensingTenantDTO(tenantSummary);
 
     // then
     assertThat(basicTenantLicensingDTO.getId()).isEqualTo(tenantDTO.getId());
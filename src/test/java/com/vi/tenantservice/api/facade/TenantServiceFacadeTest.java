@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -25,10 +27,15 @@ import com.vi.tenantservice.api.model.RestrictedTenantDTO;
 import com.vi.tenantservice.api.model.Settings;
 import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantSummary;
+import com.vi.tenantservice.api.model.ThemingAsset;
+import com.vi.tenantservice.api.model.ThemingAssetType;
+import com.vi.tenantservice.api.model.VersionedRestrictedTenant;
 import com.vi.tenantservice.api.service.SingleDomainTenantOverrideService;
 import com.vi.tenantservice.api.service.TemplateRenderer;
 import com.vi.tenantservice.api.service.TemplateService;
 import com.vi.tenantservice.api.service.TenantService;
+import com.vi.tenantservice.api.service.ThemingAssetService;
 import com.vi.tenantservice.api.service.TranslationService;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
 import com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService;
@@ -40,16 +47,21 @@ import com.vi.tenantservice.config.security.AuthorisationService;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
 import com.vi.tenantservice.useradminservice.generated.web.model.AdminDTO;
 import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -106,11 +118,24 @@ class TenantServiceFacadeTest {
 
   @Mock private SingleDomainTenantOverrideService singleDomainTenantOverrideService;
 
+  @Mock private ThemingAssetService themingAssetService;
+
+  @Mock private Executor remoteCallExecutor;
+
   @InjectMocks private TenantServiceFacade tenantServiceFacade;
 
   @BeforeEach
   public void initialize() {
     tenantEntity.setId(ID);
+    ReflectionTestUtils.setField(tenantServiceFacade, "enrichmentTimeoutMillis", 1000L);
+    lenient()
+        .doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(remoteCallExecutor)
+        .execute(any());
   }
 
   @Test
@@ -138,14 +163,13 @@ class TenantServiceFacadeTest {
     when(entity.getSubdomain()).thenReturn("app1");
     when(entity.getId()).thenReturn(1L);
 
-    TenantEntity technicalTenant = mock(TenantEntity.class);
-    when(technicalTenant.getId()).thenReturn(0L);
+    TenantSummary technicalTenant = tenantSummary(0L);
 
     when(tenantInputSanitizer.sanitize(tenantMultilingualDTO)).thenReturn(sanitizedTenantDTO);
     when(converter.toEntity(tenantMultilingualDTO)).thenReturn(entity);
     when(tenantService.create(entity)).thenReturn(entity);
     ReflectionTestUtils.setField(tenantServiceFacade, "multitenancyWithSingleDomain", true);
-    when(tenantService.getAllTenants()).thenReturn(List.of(technicalTenant));
+    when(tenantService.getAllTenantSummaries()).thenReturn(List.of(technicalTenant));
     when(subdomainExtractor.getCurrentSubdomain()).thenReturn(Optional.of("app1"));
 
     // when
@@ -166,14 +190,13 @@ class TenantServiceFacadeTest {
     when(entity.getSubdomain()).thenReturn("app1");
     when(entity.getId()).thenReturn(1L);
 
-    TenantEntity technicalTenant = mock(TenantEntity.class);
-    when(technicalTenant.getId()).thenReturn(0L);
+    TenantSummary technicalTenant = tenantSummary(0L);
 
     when(tenantInputSanitizer.sanitize(tenantMultilingualDTO)).thenReturn(sanitizedTenantDTO);
     when(converter.toEntity(tenantMultilingualDTO)).thenReturn(entity);
     when(tenantService.create(entity)).thenReturn(entity);
     ReflectionTestUtils.setField(tenantServiceFacade, "multitenancyWithSingleDomain", true);
-    when(tenantService.getAllTenants()).thenReturn(List.of(technicalTenant));
+    when(tenantService.getAllTenantSummaries()).thenReturn(List.of(technicalTenant));
     when(subdomainExtractor.getCurrentSubdomain()).thenReturn(Optional.of("app2"));
 
     // when
@@ -237,7 +260,7 @@ class TenantServiceFacadeTest {
 
   private void givenConsultingTypeReturnsConsultingTypeByTenantId() {
 
-    when(consultingTypeService.getConsultingTypesByTenantId(ID.intValue()))
+    when(consultingTypeService.getCurrentConsultingTypesByTenantId(ID.intValue()))
         .thenReturn(new FullConsultingTypeResponseDTO().id(CONSULTING_TYPE_ID));
   }
 
@@ -320,6 +343,7 @@ class TenantServiceFacadeTest {
     verify(tenantService).update(tenantEntity);
     verify(consultingTypeService)
         .patchConsultingType(
+            Mockito.eq(ID.intValue()),
             Mockito.eq(2),
             Mockito.any(
                 com.vi.tenantservice.consultingtypeservice.generated.web.model
@@ -350,8 +374,11 @@ class TenantServiceFacadeTest {
     verify(tenantService).findTenantById(ID);
     verify(converter).toEntity(tenantEntity, sanitizedTenantDTO);
     verify(tenantService).update(tenantEntity);
+    verify(consultingTypeService).getCurrentConsultingTypesByTenantId(ID.intValue());
+    verify(consultingTypeService, never()).getConsultingTypesByTenantId(Mockito.anyInt(), any());
     verify(consultingTypeService, never())
         .patchConsultingType(
+            Mockito.anyInt(),
             Mockito.anyInt(),
             Mockito.any(
                 com.vi.tenantservice.consultingtypeservice.generated.web.model
@@ -415,16 +442,50 @@ class TenantServiceFacadeTest {
     assertThat(tenantById).contains(tenantDTO);
   }
 
+  @Test
+  void findVersionedRestrictedTenantById_Should_notConvertTenant_When_onlyVersionIsRequested() {
+    // given
+    tenantEntity.setUpdateDate(LocalDateTime.of(2022, 1, 1, 0, 0));
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    when(translationService.getCurrentLanguageContext()).thenReturn("de");
+    when(converter.toRestrictedTenantVersion(tenantEntity, "de")).thenReturn("1:2022-01-01:de");
+
+    // when
+    var versionedTenant = tenantServiceFacade.findVersionedRestrictedTenantById(ID);
+
+    // then
+    assertThat(versionedTenant).isPresent();
+    assertThat(versionedTenant.get().getETag()).isNotBlank();
+    verify(converter, never()).toRestrictedTenantDTO(any(), any());
+  }
+
+  @Test
+  void findVersionedRestrictedTenantById_Should_changeETag_When_tenantVersionChanges() {
+    // given
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    when(translationService.getCurrentLanguageContext()).thenReturn("de");
+    when(converter.toRestrictedTenantVersion(tenantEntity, "de"))
+        .thenReturn("1:2022-01-01:de")
+        .thenReturn("1:2022-01-02:de");
+
+    // when
+    var firstETag = tenantServiceFacade.findVersionedRestrictedTenantById(ID).orElseThrow();
+    var secondETag = tenantServiceFacade.findVersionedRestrictedTenantById(ID).orElseThrow();
+
+    // then
+    assertThat(firstETag.getETag()).isNotEqualTo(secondETag.getETag());
+  }
+
   @Test
   void findMultilingualTenantById_Should_findTenant_When_ExistingIdIsPassedForSingleTenantAdmin() {
     // given
     when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
     tenantEntity.setId(1L);
     tenantMultilingualDTO.setId(1L);
-    when(consultingTypeService.getConsultingTypesByTenantId(Mockito.anyInt()))
+    when(consultingTypeService.getConsultingTypesByTenantId(Mockito.anyInt(), any()))
         .thenReturn(new FullConsultingTypeResponseDTO());
     when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
-    when(userAdminService.getTenantAdmins(1))
+    when(userAdminService.getTenantAdmins(eq(1), any()))
         .thenReturn(
             Lists.newArrayList(
                 new AdminResponseDTO().embedded(new AdminDTO().email("admin@admin.com"))));
@@ -436,57 +497,109 @@ class TenantServiceFacadeTest {
   }
 
   @Test
-  void getAllTenant_Should_CallServiceToGetAllTenants() {
+  void findMultilingualTenantById_Should_returnTenantWithoutEnrichment_When_ServicesDoNotAnswer() {
+    // given
+    ReflectionTestUtils.setField(tenantServiceFacade, "enrichmentTimeoutMillis", 10L);
+    var submittedCalls = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.doNothing().when(remoteCallExecutor).execute(submittedCalls.capture());
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    tenantMultilingualDTO.setId(ID);
+    tenantMultilingualDTO.setSettings(new Settings());
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
+    when(authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)).thenReturn(true);
+
+    // when
+    var tenantById = tenantServiceFacade.findMultilingualTenantById(ID);
+
+    // then
+    assertThat(tenantById).contains(tenantMultilingualDTO);
+    assertThat(tenantById.get().getAdminEmails()).isNull();
+    assertThat(tenantById.get().getSettings().getExtendedSettings()).isNull();
+    assertThat(submittedCalls.getAllValues())
+        .hasSize(2)
+        .allSatisfy(submittedCall -> assertThat((Future<?>) submittedCall).isCancelled());
+    verify(userAdminService, never()).getTenantAdmins(Mockito.anyInt(), any());
+    verify(consultingTypeService, never()).getConsultingTypesByTenantId(Mockito.anyInt(), any());
+  }
+
+  @Test
+  void getAllTenant_Should_CallServiceToGetAllTenantSummaries() {
     // when
     tenantServiceFacade.getAllTenants();
     // then
-    verify(tenantService).getAllTenants();
+    verify(tenantService).getAllTenantSummaries();
+    verify(tenantService, never()).getAllTenants();
+  }
+
+  @Test
+  void findThemingAsset_Should_returnThemingAssetOfService_When_assetNameIsKnown() {
+    // given
+    var themingAsset = new ThemingAsset(new byte[] {1}, "image/png", "etag", "1");
+    when(themingAssetService.findThemingAsset(ID, ThemingAssetType.ASSOCIATION_LOGO))
+        .thenReturn(Optional.of(themingAsset));
+
+    // when
+    var result = tenantServiceFacade.findThemingAsset(ID, "associationLogo");
+
+    // then
+    assertThat(result).contains(themingAsset);
   }
 
   @Test
-  void getSingleTenant_Should_findTenant_When_onlyOneTenantIsPresent() {
+  void findThemingAsset_Should_returnEmpty_When_assetNameIsUnknown() {
+    // when
+    var result = tenantServiceFacade.findThemingAsset(ID, "banner");
+
+    // then
+    assertThat(result).isEmpty();
+    verifyNoInteractions(themingAssetService);
+  }
+
+  @Test
+  void getVersionedSingleTenant_Should_findTenant_When_onlyOneTenantIsPresent() {
     // given
-    when(tenantService.getAllTenants()).thenReturn(List.of(tenantEntity));
+    when(tenantService.getAllTenantSummaries()).thenReturn(List.of(tenantSummary(ID)));
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
     when(translationService.getCurrentLanguageContext()).thenReturn(DE);
     when(converter.toRestrictedTenantDTO(tenantEntity, DE)).thenReturn(restrictedTenantDTO);
 
     // when
-    tenantServiceFacade.getSingleTenant();
+    tenantServiceFacade.getVersionedSingleTenant().orElseThrow().getRestrictedTenant();
 
     // then
-    verify(tenantService).getAllTenants();
+    verify(tenantService).getAllTenantSummaries();
     verify(converter).toRestrictedTenantDTO(tenantEntity, DE);
   }
 
   @Test
-  void getSingleTenant_Should_shouldThrowIllegalStateException_When_moreTenantsArePresent() {
+  void
+      getVersionedSingleTenant_Should_shouldThrowIllegalStateException_When_moreTenantsArePresent() {
     // given
-    TenantEntity secondTenantEntity = new TenantEntity();
-    secondTenantEntity.setId(2L);
-    when(tenantService.getAllTenants()).thenReturn(List.of(tenantEntity, secondTenantEntity));
+    when(tenantService.getAllTenantSummaries())
+        .thenReturn(List.of(tenantSummary(ID), tenantSummary(2L)));
 
     // then
     assertThrows(
         IllegalStateException.class,
         () -> {
           // when
-          tenantServiceFacade.getSingleTenant();
+          tenantServiceFacade.getVersionedSingleTenant();
         });
 
-    verify(tenantService).getAllTenants();
+    verify(tenantService).getAllTenantSummaries();
     verifyNoInteractions(converter);
   }
 
   @Test
   void
-      findTenantBySubdomain_Should_overridePrivacyDataFromDifferentTenant_When_TenantIdProvidedInRequest() {
+      findVersionedTenantBySubdomain_Should_overridePrivacyDataFromDifferentTenant_When_TenantIdProvidedInRequest() {
     // given
 
     ReflectionTestUtils.setField(tenantServiceFacade, "multitenancyWithSingleDomain", true);
     ReflectionTestUtils.setField(
         tenantServiceFacade,
         "tenantConverter",
-        new TenantConverter(new TemplateService(), templateRenderer));
+        new TenantConverter(new TemplateService(mock(CacheManager.class)), templateRenderer));
 
     Optional<TenantEntity> defaultTenant = getTenantWithPrivacy("{\"de\":\"content1\"}");
     Optional<TenantEntity> accessTokenTenantData = getTenantWithPrivacy("{\"de\":\"content2\"}");
@@ -503,7 +616,9 @@ class TenantServiceFacadeTest {
         .thenReturn(overriddenDTO);
     // when
     Optional<RestrictedTenantDTO> tenantDTO =
-        tenantServiceFacade.findTenantBySubdomain(SINGLE_DOMAIN_SUBDOMAIN_NAME, null);
+        tenantServiceFacade
+            .findVersionedTenantBySubdomain(SINGLE_DOMAIN_SUBDOMAIN_NAME, null)
+            .map(VersionedRestrictedTenant::getRestrictedTenant);
 
     // then
     assertThat(tenantDTO.get().getContent().getPrivacy()).contains("content2");
@@ -515,4 +630,8 @@ class TenantServiceFacadeTest {
     Optional<TenantEntity> defaultTenant = Optional.of(defaultTenantEntity);
     return defaultTenant;
   }
+
+  private static TenantSummary tenantSummary(Long id) {
+    return new TenantSummary(id, "tenant", "subdomain", 5, null, null);
+  }
 }
@@ -0,0 +1,131 @@
+package com.vi.tenantservice.api.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.vi.tenantservice.api.tenant.TenantResolver;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class MetricsAspectTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+  @BeforeEach
+  void setUp() {
+    Metrics.addRegistry(meterRegistry);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.removeRegistry(meterRegistry);
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void timeTenantResolver_Should_tagResolvedOutcomeAndSetStrategy_When_tenantIsResolved() {
+    // given
+    var resolver = proxied(new HeaderTenantResolver(Optional.of(1L)));
+
+    // when
+    resolver.resolve(request);
+    TenantMetrics.record("tenant.test", Tags.empty(), () -> "result");
+
+    // then
+    assertThat(
+            meterRegistry
+                .get(MetricsAspect.RESOLVER_TIMER)
+                .tags(
+                    "resolver",
+                    "header",
+                    "method",
+                    "resolve",
+                    TenantMetrics.OUTCOME_TAG,
+                    MetricsAspect.RESOLVED)
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("tenant.test")
+                .tags(TenantMetrics.OUTCOME_TAG, TenantMetrics.SUCCESS)
+                .tags(TenantMetrics.STRATEGY_TAG, "header")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void timeTenantResolver_Should_tagUnresolvedOutcomeAndKeepStrategy_When_tenantIsNotResolved() {
+    // given
+    var resolver = proxied(new HeaderTenantResolver(Optional.empty()));
+
+    // when
+    resolver.resolve(request);
+
+    // then
+    assertThat(
+            meterRegistry
+                .get(MetricsAspect.RESOLVER_TIMER)
+                .tags(TenantMetrics.OUTCOME_TAG, MetricsAspect.UNRESOLVED)
+                .tags(TenantMetrics.STRATEGY_TAG, TenantMetrics.NO_STRATEGY)
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void timeTenantResolver_Should_tagErrorOutcome_When_resolverFails() {
+    // given
+    var resolver = proxied(new HeaderTenantResolver(null));
+
+    // when
+    assertThrows(NullPointerException.class, () -> resolver.resolve(request));
+
+    // then
+    assertThat(
+            meterRegistry
+                .get(MetricsAspect.RESOLVER_TIMER)
+                .tags(TenantMetrics.OUTCOME_TAG, TenantMetrics.ERROR)
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  private static TenantResolver proxied(TenantResolver resolver) {
+    var proxyFactory = new AspectJProxyFactory(resolver);
+    proxyFactory.addAspect(new MetricsAspect());
+    return proxyFactory.getProxy();
+  }
+
+  static class HeaderTenantResolver implements TenantResolver {
+
+    private final Optional<Long> tenantId;
+
+    HeaderTenantResolver(Optional<Long> tenantId) {
+      this.tenantId = tenantId;
+    }
+
+    @Override
+    public Optional<Long> resolve(HttpServletRequest request) {
+      return tenantId.map(id -> id);
+    }
+
+    @Override
+    public boolean canResolve(HttpServletRequest request) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.vi.tenantservice.api.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TenantEntityTest {
+
+  @Test
+  void getParsedSettings_Should_ReturnEqualCopies_When_SettingsDidNotChange() {
+    // given
+    var tenantEntity = new TenantEntity();
+    tenantEntity.setSettings("{\"featureToolsEnabled\":true,\"activeLanguages\":[\"de\"]}");
+
+    // when
+    var first = tenantEntity.getParsedSettings();
+    var second = tenantEntity.getParsedSettings();
+
+    // then
+    assertThat(first.isFeatureToolsEnabled()).isTrue();
+    assertThat(second).isEqualTo(first).isNotSameAs(first);
+    assertThat(second.getActiveLanguages()).isNotSameAs(first.getActiveLanguages());
+  }
+
+  @Test
+  void getParsedSettings_Should_NotShareModifications_When_ParsedSettingsAreChanged() {
+    // given
+    var tenantEntity = new TenantEntity();
+    tenantEntity.setSettings("{\"featureToolsEnabled\":true,\"activeLanguages\":[\"de\"]}");
+    var modified = tenantEntity.getParsedSettings();
+
+    // when
+    modified.setFeatureToolsEnabled(false);
+    modified.getActiveLanguages().add("en");
+
+    // then
+    var parsedSettings = tenantEntity.getParsedSettings();
+    assertThat(parsedSettings.isFeatureToolsEnabled()).isTrue();
+    assertThat(parsedSettings.getActiveLanguages()).containsExactly("de");
+  }
+
+  @Test
+  void copy_Should_NotShareParsedSettings() {
+    // given
+    var tenantEntity = new TenantEntity();
+    tenantEntity.setSettings("{\"featureToolsEnabled\":true}");
+    tenantEntity.getParsedSettings().setFeatureToolsEnabled(false);
+
+    // when
+    var copy = tenantEntity.copy();
+    copy.setSettings("{\"featureToolsEnabled\":false}");
+
+    // then
+    assertThat(copy.getParsedSettings().isFeatureToolsEnabled()).isFalse();
+    assertThat(tenantEntity.getParsedSettings().isFeatureToolsEnabled()).isTrue();
+  }
+
+  @Test
+  void getParsedSettings_Should_ParseSettingsAgain_When_SettingsChanged() {
+    // given
+    var tenantEntity = new TenantEntity();
+    tenantEntity.setSettings("{\"featureToolsEnabled\":true}");
+    tenantEntity.getParsedSettings();
+
+    // when
+    tenantEntity.setSettings("{\"featureToolsEnabled\":false}");
+
+    // then
+    assertThat(tenantEntity.getParsedSettings().isFeatureToolsEnabled()).isFalse();
+  }
+
+  @Test
+  void getParsedSettings_Should_ReturnNull_When_NoSettingsPresent() {
+    // given
+    var tenantEntity = new TenantEntity();
+
+    // when, then
+    assertThat(tenantEntity.getParsedSettings()).isNull();
+  }
+}
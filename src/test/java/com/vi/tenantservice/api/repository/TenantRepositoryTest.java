@@ -2,15 +2,20 @@ package com.vi.tenantservice.api.repository;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantSummary;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -85,4 +90,96 @@ class TenantRepositoryTest {
     // then
     assertNotNull(tenant);
   }
+
+  @Test
+  void findAllExceptTechnicalByInfix_Should_FindTenantsByCaseInsensitiveNameInfix() {
+    // when
+    var tenants =
+        tenantRepository.findAllExceptTechnicalByInfix("TENANT", PageRequest.of(0, 10, ASC, "id"));
+
+    // then
+    assertThat(tenants.map(TenantSummary::getId).toList()).isEqualTo(List.of(2L, 3L));
+  }
+
+  @Test
+  void findAllExceptTechnicalByInfix_Should_FindTenantByNamePrefix() {
+    // when
+    var tenants =
+        tenantRepository.findAllExceptTechnicalByInfix("happy", PageRequest.of(0, 10, ASC, "id"));
+
+    // then
+    assertThat(tenants.getTotalElements()).isEqualTo(1L);
+    var tenant = tenants.getContent().get(0);
+    assertThat(tenant.getName()).isEqualTo("Happylife Gmbh");
+    assertThat(tenant.getSubdomain()).isEqualTo("happylife");
+    assertThat(tenant.getLicensingAllowedNumberOfUsers()).isEqualTo(5);
+    assertNotNull(tenant.getCreateDate());
+  }
+
+  @Test
+  void findAllExceptTechnicalByInfix_Should_FindTenantById() {
+    // when
+    var tenants =
+        tenantRepository.findAllExceptTechnicalByInfix("3", PageRequest.of(0, 10, ASC, "id"));
+
+    // then
+    assertThat(tenants.map(TenantSummary::getName).toList()).isEqualTo(List.of("localhost tenant"));
+  }
+
+  @Test
+  void findAllExceptTechnicalByInfix_Should_FindUpdatedName() {
+    // given
+    TenantEntity tenant = tenantRepository.findById(EXISTING_ID).get();
+    tenant.setName("renamed");
+    tenantRepository.saveAndFlush(tenant);
+
+    // when
+    var tenants =
+        tenantRepository.findAllExceptTechnicalByInfix("ENAME", PageRequest.of(0, 10, ASC, "id"));
+
+    // then
+    assertThat(tenants.map(TenantSummary::getId).toList()).isEqualTo(List.of(EXISTING_ID));
+  }
+
+  @Test
+  void findAllExceptTechnicalByInfix_Should_MapSummariesOfRequestedPage_When_SortedByName() {
+    // when
+    var tenants =
+        tenantRepository.findAllExceptTechnicalByInfix("", PageRequest.of(1, 1, DESC, "name"));
+
+    // then
+    assertThat(tenants.getTotalElements()).isEqualTo(3L);
+    assertThat(tenants.getTotalPages()).isEqualTo(3);
+    assertThat(tenants.isFirst()).isFalse();
+    assertThat(tenants.isLast()).isFalse();
+    assertThat(tenants.getContent().size()).isEqualTo(1);
+    var tenant = tenants.getContent().get(0);
+    assertThat(tenant.getId()).isEqualTo(EXISTING_ID);
+    assertThat(tenant.getName()).isEqualTo("Happylife Gmbh");
+    assertThat(tenant.getSubdomain()).isEqualTo("happylife");
+    assertThat(tenant.getLicensingAllowedNumberOfUsers()).isEqualTo(5);
+    assertThat(tenant.getCreateDate()).isEqualTo(LocalDateTime.of(2021, 12, 28, 0, 0));
+    assertThat(tenant.getUpdateDate()).isEqualTo(LocalDateTime.of(2021, 12, 29, 0, 0));
+  }
+
+  @Test
+  void findAllExceptTechnicalByInfix_Should_ReturnEmptyPage_When_PageIsBeyondLastTenant() {
+    // when
+    var tenants =
+        tenantRepository.findAllExceptTechnicalByInfix("", PageRequest.of(3, 1, DESC, "name"));
+
+    // then
+    assertThat(tenants.getContent().isEmpty()).isTrue();
+    assertThat(tenants.getTotalElements()).isEqualTo(3L);
+  }
+
+  @Test
+  void findAllSummaries_Should_ReturnSummariesOfAllTenants() {
+    // when
+    var tenants = tenantRepository.findAllSummaries();
+
+    // then
+    assertThat(tenants.stream().map(TenantSummary::getId).sorted().toList())
+        .isEqualTo(List.of(0L, 1L, 2L, 3L));
+  }
 }
@@ -0,0 +1,65 @@
+package com.vi.tenantservice.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.util.JsonConverter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigurationFileLoaderTest {
+
+  private static final ObjectReader TENANT_SETTINGS_READER =
+      JsonConverter.readerFor(TenantSettings.class);
+
+  private final ConfigurationFileLoader configurationFileLoader = new ConfigurationFileLoader();
+
+  @TempDir Path tempDir;
+
+  private Path settingsFile;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    settingsFile = tempDir.resolve("default-tenant-settings.json");
+    Files.writeString(settingsFile, "{\"featureTopicsEnabled\": true}");
+  }
+
+  @Test
+  void readFrom_Should_returnNewInstanceOnEveryCall() throws IOException {
+    // given
+    var first = readSettings();
+    first.setFeatureTopicsEnabled(false);
+
+    // when
+    var second = readSettings();
+
+    // then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.isFeatureTopicsEnabled()).isTrue();
+  }
+
+  @Test
+  void readFrom_Should_parseFileAgain_When_FileWasModified() throws IOException {
+    // given
+    readSettings();
+    Files.writeString(settingsFile, "{\"featureTopicsEnabled\": false}");
+    Files.setLastModifiedTime(settingsFile, FileTime.from(Instant.now().plusSeconds(10)));
+
+    // when
+    var settings = readSettings();
+
+    // then
+    assertThat(settings.isFeatureTopicsEnabled()).isFalse();
+  }
+
+  private TenantSettings readSettings() throws IOException {
+    return configurationFileLoader.readFrom(settingsFile.toString(), TENANT_SETTINGS_READER);
+  }
+}
@@ -36,8 +36,9 @@ class SingleDomainTenantOverrideServiceTest {
     mainTenant.setId(1L);
     var actualTenant = new TenantEntity();
     when(translationService.getCurrentLanguageContext()).thenReturn("de");
-    when(tenantConverter.toRestrictedTenantDTO(mainTenant, "de"))
-        .thenReturn(restrictedDTO("main privacy", LocalDateTime.now().minusDays(1), false));
+    RestrictedTenantDTO mainRestrictedDTO =
+        restrictedDTO("main privacy", LocalDateTime.now().minusDays(1), false);
+    when(tenantConverter.toRestrictedTenantDTO(mainTenant, "de")).thenReturn(mainRestrictedDTO);
     LocalDateTime actualPrivacyChangedDate = LocalDateTime.now();
     when(tenantConverter.toRestrictedTenantDTO(actualTenant, "de"))
         .thenReturn(restrictedDTO("actual privacy", actualPrivacyChangedDate, true));
@@ -58,6 +59,8 @@ class SingleDomainTenantOverrideServiceTest {
     assertThat(restrictedTenantDTO.getContent().getDataPrivacyConfirmation())
         .isEqualTo(actualPrivacyChangedDate);
     assertThat(restrictedTenantDTO.getSettings().getFeatureAttachmentUploadDisabled()).isTrue();
+    assertThat(mainRestrictedDTO.getContent().getPrivacy()).isEqualTo("main privacy");
+    assertThat(mainRestrictedDTO.getSettings().getFeatureAttachmentUploadDisabled()).isFalse();
   }
 
   @Test
@@ -6,6 +6,7 @@ import com.google.common.collect.Maps;
 import freemarker.template.TemplateException;
 import java.io.IOException;
 import java.util.Map;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -61,4 +62,33 @@ class TemplateRendererTest {
     // then
     assertThat(renderedTemplate).isEqualTo("Hello ");
   }
+
+  @Test
+  void renderTemplate_shouldRenderEachTemplateContent_When_RenderedConcurrently() {
+    // given
+    var templateIndexes = IntStream.range(0, 200).boxed().toList();
+
+    // when
+    var renderedTemplates =
+        templateIndexes.parallelStream()
+            .map(
+                index ->
+                    renderUnchecked(
+                        "Template " + index % 20 + " for ${name}", Map.of("name", index)))
+            .toList();
+
+    // then
+    for (int index : templateIndexes) {
+      assertThat(renderedTemplates.get(index))
+          .isEqualTo("Template " + index % 20 + " for " + index);
+    }
+  }
+
+  private String renderUnchecked(String templateContent, Map<String, Object> dataModel) {
+    try {
+      return templateRenderer.renderTemplate(templateContent, dataModel);
+    } catch (IOException | TemplateException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
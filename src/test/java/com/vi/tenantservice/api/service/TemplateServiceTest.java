@@ -1,11 +1,20 @@
 package com.vi.tenantservice.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @SpringBootTest
 @TestPropertySource(properties = "spring.profiles.active=testing")
@@ -13,9 +22,10 @@ class TemplateServiceTest {
 
   @Autowired TemplateService templateService;
 
+  @Autowired CacheManager cacheManager;
+
   @Test
-  void getDefaultGermanDataProtectionTemplate_Should_ReturnTemplateDTO()
-      throws TemplateDescriptionServiceException {
+  void getDefaultGermanDataProtectionTemplate_Should_ReturnTemplateDTO() {
 
     // given, when
     var template = templateService.getDefaultDataProtectionTemplate();
@@ -39,8 +49,7 @@ class TemplateServiceTest {
   }
 
   @Test
-  void getMultilingualDataProtectionTemplate_Should_ReturnMapOfLanguagesForEnglishAndGerman()
-      throws TemplateDescriptionServiceException {
+  void getMultilingualDataProtectionTemplate_Should_ReturnMapOfLanguagesForEnglishAndGerman() {
 
     // given, when
     var template = templateService.getMultilingualDataProtectionTemplate();
@@ -70,4 +79,103 @@ class TemplateServiceTest {
                 .getAlternativeRepresentativeContact())
         .isNotNull();
   }
+
+  @Test
+  void getDataProtectionTemplate_Should_ReturnTemplateOfGivenLanguage() {
+    // given, when, then
+    assertThat(templateService.getDataProtectionTemplate("en"))
+        .contains(templateService.getMultilingualDataProtectionTemplate().get("en"));
+    assertThat(templateService.getDataProtectionTemplate("fr")).isEmpty();
+    assertThat(templateService.getDataProtectionTemplate(null)).isEmpty();
+  }
+
+  @Test
+  void init_Should_LoadAllLanguagesAndReloadOnFileChange_When_CustomResourcesPathIsUsed(
+      @TempDir Path templateDir) throws IOException {
+    // given
+    Files.writeString(
+        templateDir.resolve("dataProtectionContactTemplate.json"), templateJson("de contact"));
+    Files.writeString(
+        templateDir.resolve("dataProtectionContactTemplate.fr.json"), templateJson("fr contact"));
+    var customTemplateService = new TemplateService(cacheManager);
+    ReflectionTestUtils.setField(customTemplateService, "useCustomResourcesPath", true);
+    ReflectionTestUtils.setField(customTemplateService, "customResourcePath", templateDir + "/");
+
+    try {
+      // when
+      customTemplateService.init();
+      Files.writeString(
+          templateDir.resolve("dataProtectionContactTemplate.en.json"), templateJson("en contact"));
+
+      // then
+      assertThat(customTemplateService.getDefaultDataProtectionTemplate()).isNotNull();
+      await()
+          .atMost(Duration.ofSeconds(30))
+          .untilAsserted(
+              () ->
+                  assertThat(customTemplateService.getMultilingualDataProtectionTemplate())
+                      .containsOnlyKeys("de", "fr", "en"));
+      assertThat(
+              customTemplateService
+                  .getDataProtectionTemplate("en")
+                  .orElseThrow()
+                  .getNoAgencyContext()
+                  .getResponsibleContact())
+          .isEqualTo("en contact");
+    } finally {
+      customTemplateService.destroy();
+    }
+  }
+
+  @Test
+  void init_Should_ReloadTemplates_When_ConfigMapDataSymlinkIsSwapped(@TempDir Path templateDir)
+      throws IOException {
+    // given
+    writeConfigMapVersion(templateDir, "..v1", "de contact");
+    Files.createSymbolicLink(templateDir.resolve("..data"), Path.of("..v1"));
+    Files.createSymbolicLink(
+        templateDir.resolve("dataProtectionContactTemplate.json"),
+        Path.of("..data", "dataProtectionContactTemplate.json"));
+    var customTemplateService = new TemplateService(cacheManager);
+    ReflectionTestUtils.setField(customTemplateService, "useCustomResourcesPath", true);
+    ReflectionTestUtils.setField(customTemplateService, "customResourcePath", templateDir + "/");
+    ReflectionTestUtils.setField(customTemplateService, "reloadDebounceMillis", 100L);
+
+    try {
+      customTemplateService.init();
+
+      // when
+      writeConfigMapVersion(templateDir, "..v2", "updated de contact");
+      Files.createSymbolicLink(templateDir.resolve("..data_tmp"), Path.of("..v2"));
+      Files.move(
+          templateDir.resolve("..data_tmp"),
+          templateDir.resolve("..data"),
+          StandardCopyOption.ATOMIC_MOVE);
+
+      // then
+      await()
+          .atMost(Duration.ofSeconds(30))
+          .untilAsserted(
+              () ->
+                  assertThat(
+                          customTemplateService
+                              .getDefaultDataProtectionTemplate()
+                              .getNoAgencyContext()
+                              .getResponsibleContact())
+                      .isEqualTo("updated de contact"));
+    } finally {
+      customTemplateService.destroy();
+    }
+  }
+
+  private static void writeConfigMapVersion(Path templateDir, String version, String contact)
+      throws IOException {
+    var versionDir = Files.createDirectory(templateDir.resolve(version));
+    Files.writeString(
+        versionDir.resolve("dataProtectionContactTemplate.json"), templateJson(contact));
+  }
+
+  private static String templateJson(String responsibleContact) {
+    return "{\"noAgencyContext\": {\"responsibleContact\": \"" + responsibleContact + "\"}}";
+  }
 }
@@ -0,0 +1,165 @@
+package com.vi.tenantservice.api.service;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_CACHE;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_BY_SUBDOMAIN_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.converter.TenantConverter;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.repository.TenantRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest
+@TestPropertySource(properties = "spring.profiles.active=testing")
+class TenantServiceCacheTest {
+
+  private static final String SUBDOMAIN = "happylife";
+
+  @Autowired TenantService tenantService;
+
+  @Autowired TenantConverter tenantConverter;
+
+  @Autowired TemplateService templateService;
+
+  @Autowired CacheManager cacheManager;
+
+  @MockBean TenantRepository tenantRepository;
+
+  @AfterEach
+  void tearDown() {
+    cacheManager.getCache(TENANT_BY_SUBDOMAIN_CACHE).clear();
+    cacheManager.getCache(RESTRICTED_TENANT_CACHE).clear();
+  }
+
+  @Test
+  void findTenantBySubdomain_Should_QueryRepositoryOnce_When_CalledRepeatedly() {
+    // given
+    TenantEntity tenantEntity = TenantEntity.builder().id(1L).subdomain(SUBDOMAIN).build();
+    when(tenantRepository.findBySubdomain(SUBDOMAIN)).thenReturn(tenantEntity);
+
+    // when
+    tenantService.findTenantBySubdomain(SUBDOMAIN);
+    var result = tenantService.findTenantBySubdomain(SUBDOMAIN);
+
+    // then
+    assertThat(result).contains(tenantEntity);
+    verify(tenantRepository, times(1)).findBySubdomain(SUBDOMAIN);
+  }
+
+  @Test
+  void findTenantBySubdomain_Should_ReturnDetachedCopies_When_TenantIsCached() {
+    // given
+    TenantEntity tenantEntity =
+        TenantEntity.builder().id(1L).name("name").subdomain(SUBDOMAIN).build();
+    when(tenantRepository.findBySubdomain(SUBDOMAIN)).thenReturn(tenantEntity);
+
+    // when
+    var first = tenantService.findTenantBySubdomain(SUBDOMAIN).orElseThrow();
+    first.setName("changed");
+    var second = tenantService.findTenantBySubdomain(SUBDOMAIN).orElseThrow();
+
+    // then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getName()).isEqualTo("name");
+  }
+
+  @Test
+  void findTenantBySubdomain_Should_NotCacheMissingTenant() {
+    // when
+    tenantService.findTenantBySubdomain(SUBDOMAIN);
+    var result = tenantService.findTenantBySubdomain(SUBDOMAIN);
+
+    // then
+    assertThat(result).isEmpty();
+    verify(tenantRepository, times(2)).findBySubdomain(SUBDOMAIN);
+  }
+
+  @Test
+  void update_Should_EvictTenantsCachedBySubdomain() {
+    // given
+    TenantEntity tenantEntity = TenantEntity.builder().id(1L).subdomain(SUBDOMAIN).build();
+    when(tenantRepository.findBySubdomain(SUBDOMAIN)).thenReturn(tenantEntity);
+    tenantService.findTenantBySubdomain(SUBDOMAIN);
+
+    // when
+    tenantService.update(tenantEntity);
+    tenantService.findTenantBySubdomain(SUBDOMAIN);
+
+    // then
+    verify(tenantRepository, times(3)).findBySubdomain(SUBDOMAIN);
+  }
+
+  @Test
+  void toRestrictedTenantDTO_Should_ReturnCachedDTO_When_TenantAndLanguageDidNotChange() {
+    // given
+    TenantEntity tenantEntity = restrictedTenantEntity();
+
+    // when
+    var first = tenantConverter.toRestrictedTenantDTO(tenantEntity, "de");
+    var second = tenantConverter.toRestrictedTenantDTO(tenantEntity, "de");
+    var otherLanguage = tenantConverter.toRestrictedTenantDTO(tenantEntity, "en");
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(otherLanguage).isNotSameAs(first);
+  }
+
+  @Test
+  void toRestrictedTenantDTO_Should_ConvertAgain_When_TemplatesVersionChanged() {
+    // given
+    TenantEntity tenantEntity = restrictedTenantEntity();
+    var templatesVersion = templateService.getDataProtectionTemplatesVersion();
+    var first = tenantConverter.toRestrictedTenantDTO(tenantEntity, "de");
+
+    try {
+      // when
+      ReflectionTestUtils.setField(
+          templateService, "dataProtectionTemplatesVersion", "reloaded templates");
+      var second = tenantConverter.toRestrictedTenantDTO(tenantEntity, "de");
+
+      // then
+      assertThat(second).isNotSameAs(first);
+    } finally {
+      ReflectionTestUtils.setField(
+          templateService, "dataProtectionTemplatesVersion", templatesVersion);
+    }
+  }
+
+  @Test
+  void update_Should_EvictRestrictedTenants() {
+    // given
+    TenantEntity tenantEntity = restrictedTenantEntity();
+    tenantConverter.toRestrictedTenantDTO(tenantEntity, "de");
+
+    // when
+    tenantService.update(tenantEntity);
+
+    // then
+    assertThat(
+            cacheManager
+                .getCache(RESTRICTED_TENANT_CACHE)
+                .get(tenantConverter.toRestrictedTenantVersion(tenantEntity, "de")))
+        .isNull();
+  }
+
+  private TenantEntity restrictedTenantEntity() {
+    return TenantEntity.builder()
+        .id(1L)
+        .name("name")
+        .subdomain(SUBDOMAIN)
+        .contentPrivacy("{\"de\" : \"Privacy\", \"en\" : \"en Privacy\"}")
+        .updateDate(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,189 @@
+package com.vi.tenantservice.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.hash.Hashing;
+import com.vi.tenantservice.api.model.ThemingAsset;
+import com.vi.tenantservice.api.model.ThemingAssetType;
+import com.vi.tenantservice.api.repository.TenantRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ThemingAssetServiceTest {
+
+  private static final Long TENANT_ID = 1L;
+  private static final LocalDateTime VERSION_1 = LocalDateTime.of(2022, 1, 1, 0, 0);
+  private static final LocalDateTime VERSION_2 = LocalDateTime.of(2022, 1, 2, 0, 0);
+  private static final String PNG_BASE64 =
+      "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+
+  @Mock private TenantRepository tenantRepository;
+
+  @InjectMocks private ThemingAssetService themingAssetService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(themingAssetService, "maxCachedBytes", 1024L);
+    ReflectionTestUtils.setField(themingAssetService, "cachedAssetTtlSeconds", 60L);
+    themingAssetService.init();
+    lenient()
+        .when(tenantRepository.findLastChangeById(TENANT_ID))
+        .thenReturn(Optional.of(VERSION_1));
+  }
+
+  @Test
+  void findThemingAsset_Should_decodeDataUrlWithDeclaredMediaType() {
+    // given
+    when(tenantRepository.findThemingLogoById(TENANT_ID))
+        .thenReturn(Optional.of("data:image/png;base64," + PNG_BASE64));
+
+    // when
+    Optional<ThemingAsset> asset =
+        themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+
+    // then
+    byte[] expectedContent = Base64.getDecoder().decode(PNG_BASE64);
+    assertThat(asset).isPresent();
+    assertThat(asset.get().getContent()).isEqualTo(expectedContent);
+    assertThat(asset.get().getMediaType()).isEqualTo("image/png");
+    assertThat(asset.get().getETag())
+        .isEqualTo(Hashing.sha256().hashBytes(expectedContent).toString());
+    assertThat(asset.get().getVersion()).isEqualTo("1640995200000");
+  }
+
+  @Test
+  void findThemingAsset_Should_decodeImageOncePerVersion() {
+    // given
+    when(tenantRepository.findThemingLogoById(TENANT_ID)).thenReturn(Optional.of(PNG_BASE64));
+    themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+
+    // when
+    var sameVersion = themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+    when(tenantRepository.findLastChangeById(TENANT_ID)).thenReturn(Optional.of(VERSION_2));
+    var nextVersion = themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+
+    // then
+    assertThat(sameVersion.orElseThrow().getVersion()).isEqualTo("1640995200000");
+    assertThat(nextVersion.orElseThrow().getVersion()).isEqualTo("1641081600000");
+    verify(tenantRepository, times(2)).findThemingLogoById(TENANT_ID);
+  }
+
+  @Test
+  void findThemingAsset_Should_notCacheImages_When_theyExceedTheCacheSize() {
+    // given
+    ReflectionTestUtils.setField(themingAssetService, "maxCachedBytes", 10L);
+    themingAssetService.init();
+    when(tenantRepository.findThemingLogoById(TENANT_ID)).thenReturn(Optional.of(PNG_BASE64));
+
+    // when
+    themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+    themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+
+    // then
+    verify(tenantRepository, times(2)).findThemingLogoById(TENANT_ID);
+  }
+
+  @Test
+  void findThemingAsset_Should_returnEmpty_When_tenantDoesNotExist() {
+    // given
+    when(tenantRepository.findLastChangeById(TENANT_ID)).thenReturn(Optional.empty());
+
+    // when
+    var asset = themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+
+    // then
+    assertThat(asset).isEmpty();
+    verify(tenantRepository, never()).findThemingLogoById(TENANT_ID);
+  }
+
+  @Test
+  void findThemingAsset_Should_detectMediaType_When_imageIsPlainBase64() {
+    // given
+    var svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"/>";
+    when(tenantRepository.findThemingFaviconById(TENANT_ID))
+        .thenReturn(
+            Optional.of(Base64.getEncoder().encodeToString(svg.getBytes(StandardCharsets.UTF_8))));
+
+    // when
+    Optional<ThemingAsset> asset =
+        themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.FAVICON);
+
+    // then
+    assertThat(asset).isPresent();
+    assertThat(asset.get().getMediaType()).isEqualTo("image/svg+xml");
+  }
+
+  @Test
+  void findThemingAsset_Should_ignoreDeclaredMediaType_When_itIsNoImageType() {
+    // given
+    when(tenantRepository.findThemingAssociationLogoById(TENANT_ID))
+        .thenReturn(Optional.of("data:text/html;base64," + PNG_BASE64));
+
+    // when
+    Optional<ThemingAsset> asset =
+        themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.ASSOCIATION_LOGO);
+
+    // then
+    assertThat(asset).isPresent();
+    assertThat(asset.get().getMediaType()).isEqualTo("image/png");
+  }
+
+  @Test
+  void findThemingAsset_Should_returnEmpty_When_imageIsNotBase64Encoded() {
+    // given
+    when(tenantRepository.findThemingLogoById(TENANT_ID))
+        .thenReturn(Optional.of("base64encoded logo"));
+
+    // when
+    Optional<ThemingAsset> asset =
+        themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+
+    // then
+    assertThat(asset).isEmpty();
+  }
+
+  @Test
+  void findThemingAsset_Should_returnEmpty_When_contentIsNoSupportedImage() {
+    // given
+    when(tenantRepository.findThemingLogoById(TENANT_ID))
+        .thenReturn(
+            Optional.of(
+                Base64.getEncoder()
+                    .encodeToString("<html></html>".getBytes(StandardCharsets.UTF_8))));
+
+    // when
+    Optional<ThemingAsset> asset =
+        themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.LOGO);
+
+    // then
+    assertThat(asset).isEmpty();
+  }
+
+  @Test
+  void findThemingAsset_Should_returnEmpty_When_tenantHasNoImage() {
+    // given
+    when(tenantRepository.findThemingFaviconById(TENANT_ID)).thenReturn(Optional.empty());
+
+    // when
+    Optional<ThemingAsset> asset =
+        themingAssetService.findThemingAsset(TENANT_ID, ThemingAssetType.FAVICON);
+
+    // then
+    assertThat(asset).isEmpty();
+  }
+}
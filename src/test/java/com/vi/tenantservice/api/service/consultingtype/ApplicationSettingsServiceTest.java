@@ -1,26 +1,32 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import com.vi.tenantservice.api.config.apiclient.ApplicationSettingsApiControllerFactory;
 import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
+import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTO;
+import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class ApplicationSettingsServiceTest {
 
-  @InjectMocks ApplicationSettingsService applicationSettingsService;
+  ApplicationSettingsService applicationSettingsService;
 
   @Mock ApplicationSettingsApiControllerFactory applicationSettingsApiControllerFactory;
 
@@ -30,22 +36,29 @@ class ApplicationSettingsServiceTest {
 
   @Mock ApplicationsettingsControllerApi applicationsettingsControllerApi;
 
-  @Mock com.vi.tenantservice.applicationsettingsservice.generated.ApiClient apiClient;
-
   MockHttpServletRequest httpServletRequest;
 
   @BeforeEach
   public void setUp() {
     httpServletRequest = new MockHttpServletRequest();
     RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpServletRequest));
+    applicationSettingsService =
+        new ApplicationSettingsService(
+            tenantResolverService,
+            applicationSettingsApiControllerFactory,
+            securityHeaderSupplier,
+            Runnable::run);
+    ReflectionTestUtils.setField(applicationSettingsService, "refreshSeconds", 30L);
+    ReflectionTestUtils.setField(applicationSettingsService, "expirySeconds", 600L);
+    ReflectionTestUtils.setField(applicationSettingsService, "maxEntries", 1000L);
+    applicationSettingsService.init();
   }
 
   @Test
   void getApplicationSettings_Should_TryResolveTenantAndCallApplicationSettingsService() {
     // when
-    Mockito.when(applicationSettingsApiControllerFactory.createControllerApi())
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
         .thenReturn(applicationsettingsControllerApi);
-    Mockito.when(applicationsettingsControllerApi.getApiClient()).thenReturn(apiClient);
     Mockito.when(this.securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
     // given
     applicationSettingsService.getApplicationSettings();
@@ -55,6 +68,75 @@ class ApplicationSettingsServiceTest {
     Mockito.verify(applicationsettingsControllerApi).getApplicationSettings();
   }
 
+  @Test
+  void getApplicationSettings_Should_CallApplicationSettingsServiceOnlyOnce_When_CalledTwice() {
+    // given
+    givenApplicationSettingsServiceReturnsSettings();
+
+    // when
+    var applicationSettings = applicationSettingsService.getApplicationSettings();
+    var cachedApplicationSettings = applicationSettingsService.getApplicationSettings();
+
+    // then
+    assertThat(cachedApplicationSettings).isSameAs(applicationSettings);
+    Mockito.verify(applicationsettingsControllerApi).getApplicationSettings();
+  }
+
+  @Test
+  void getApplicationSettings_Should_CallApplicationSettingsServiceAgain_When_MainTenantSaved() {
+    // given
+    givenApplicationSettingsServiceReturnsSettings();
+    Mockito.when(this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders())
+        .thenReturn(new HttpHeaders());
+    applicationSettingsService.getApplicationSettings();
+
+    // when
+    applicationSettingsService.saveMainTenantSubDomain("app");
+    applicationSettingsService.getApplicationSettings();
+
+    // then
+    Mockito.verify(applicationsettingsControllerApi, Mockito.times(2)).getApplicationSettings();
+  }
+
+  @Test
+  void getApplicationSettings_Should_PropagateException_When_SettingsCannotBeLoaded() {
+    // given
+    givenApplicationSettingsServiceReturnsSettings();
+    Mockito.when(applicationsettingsControllerApi.getApplicationSettings())
+        .thenThrow(new RestClientException("unavailable"));
+
+    // when, then
+    assertThrows(
+        RestClientException.class, () -> applicationSettingsService.getApplicationSettings());
+  }
+
+  @Test
+  void getApplicationSettings_Should_LoadSettingsAgain_When_EvictedByOtherTenants() {
+    // given
+    ReflectionTestUtils.setField(applicationSettingsService, "maxEntries", 1L);
+    applicationSettingsService.init();
+    givenApplicationSettingsServiceReturnsSettings();
+    Mockito.when(tenantResolverService.tryResolve())
+        .thenReturn(Optional.of(1L), Optional.of(2L), Optional.of(1L));
+
+    // when
+    applicationSettingsService.getApplicationSettings();
+    applicationSettingsService.getApplicationSettings();
+    applicationSettingsService.getApplicationSettings();
+
+    // then
+    Mockito.verify(applicationsettingsControllerApi, Mockito.times(3)).getApplicationSettings();
+  }
+
+  private void givenApplicationSettingsServiceReturnsSettings() {
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
+        .thenReturn(applicationsettingsControllerApi);
+    Mockito.when(this.securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    Mockito.when(tenantResolverService.tryResolve()).thenReturn(Optional.of(1L));
+    Mockito.when(applicationsettingsControllerApi.getApplicationSettings())
+        .thenReturn(new ApplicationSettingsDTO());
+  }
+
   @AfterEach
   public void tearDown() {
     RequestContextHolder.setRequestAttributes(null);
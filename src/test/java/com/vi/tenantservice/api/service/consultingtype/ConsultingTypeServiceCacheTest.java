@@ -0,0 +1,135 @@
+package com.vi.tenantservice.api.service.consultingtype;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.CONSULTING_TYPES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
+import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
+import com.vi.tenantservice.consultingtypeservice.generated.web.ConsultingTypeControllerApi;
+import com.vi.tenantservice.consultingtypeservice.generated.web.model.ConsultingTypePatchDTO;
+import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestClientException;
+
+@SpringBootTest
+@TestPropertySource(properties = "spring.profiles.active=testing")
+class ConsultingTypeServiceCacheTest {
+
+  private static final int TENANT_ID = 1;
+  private static final int CONSULTING_TYPE_ID = 2;
+
+  @Autowired ConsultingTypeService consultingTypeService;
+
+  @Autowired CacheManager cacheManager;
+
+  @MockBean ConsultingTypeServiceApiControllerFactory consultingTypeServiceApiControllerFactory;
+
+  @MockBean SecurityHeaderSupplier securityHeaderSupplier;
+
+  @MockBean ConsultingTypeControllerApi consultingTypeControllerApi;
+
+  @BeforeEach
+  void setUp() {
+    when(consultingTypeServiceApiControllerFactory.getControllerApi())
+        .thenReturn(consultingTypeControllerApi);
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+  }
+
+  @AfterEach
+  void tearDown() {
+    cacheManager.getCache(CONSULTING_TYPES_CACHE).clear();
+  }
+
+  @Test
+  void getConsultingTypesByTenantId_Should_CallConsultingTypeServiceOnce_When_CalledRepeatedly() {
+    // given
+    var consultingTypes = new FullConsultingTypeResponseDTO().id(CONSULTING_TYPE_ID);
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(consultingTypes);
+
+    // when
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders());
+    var result = consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders());
+
+    // then
+    assertThat(result).isEqualTo(consultingTypes);
+    verify(consultingTypeControllerApi, times(1)).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+
+  @Test
+  void patchConsultingType_Should_ReplaceCachedConsultingTypesByPatchedOnes() {
+    // given
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(new FullConsultingTypeResponseDTO().id(CONSULTING_TYPE_ID));
+    var patchedConsultingTypes =
+        new FullConsultingTypeResponseDTO().id(CONSULTING_TYPE_ID).languageFormal(true);
+    when(consultingTypeControllerApi.patchConsultingType(eq(CONSULTING_TYPE_ID), any()))
+        .thenReturn(patchedConsultingTypes);
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders());
+
+    // when
+    consultingTypeService.patchConsultingType(
+        TENANT_ID, CONSULTING_TYPE_ID, new ConsultingTypePatchDTO());
+    var result = consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders());
+
+    // then
+    assertThat(result).isEqualTo(patchedConsultingTypes);
+    verify(consultingTypeControllerApi, times(1)).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+
+  @Test
+  void patchConsultingType_Should_EvictCachedConsultingTypes_When_PatchFails() {
+    // given
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(new FullConsultingTypeResponseDTO().id(CONSULTING_TYPE_ID));
+    when(consultingTypeControllerApi.patchConsultingType(eq(CONSULTING_TYPE_ID), any()))
+        .thenThrow(new RestClientException("unavailable"));
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders());
+    var consultingTypePatchDTO = new ConsultingTypePatchDTO();
+
+    // when
+    assertThrows(
+        RestClientException.class,
+        () ->
+            consultingTypeService.patchConsultingType(
+                TENANT_ID, CONSULTING_TYPE_ID, consultingTypePatchDTO));
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders());
+
+    // then
+    verify(consultingTypeControllerApi, times(2)).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+
+  @Test
+  void getCurrentConsultingTypesByTenantId_Should_BypassAndUpdateCachedConsultingTypes() {
+    // given
+    var cachedConsultingTypes = new FullConsultingTypeResponseDTO().id(CONSULTING_TYPE_ID);
+    var currentConsultingTypes =
+        new FullConsultingTypeResponseDTO().id(CONSULTING_TYPE_ID).languageFormal(true);
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(cachedConsultingTypes, currentConsultingTypes);
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders());
+
+    // when
+    var result = consultingTypeService.getCurrentConsultingTypesByTenantId(TENANT_ID);
+
+    // then
+    assertThat(result).isEqualTo(currentConsultingTypes);
+    assertThat(consultingTypeService.getConsultingTypesByTenantId(TENANT_ID, new HttpHeaders()))
+        .isEqualTo(currentConsultingTypes);
+    verify(consultingTypeControllerApi, times(2)).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+}
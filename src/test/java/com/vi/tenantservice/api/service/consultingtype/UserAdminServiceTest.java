@@ -0,0 +1,125 @@
+package com.vi.tenantservice.api.service.consultingtype;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.config.apiclient.UserAdminServiceApiControllerFactory;
+import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
+import com.vi.tenantservice.api.tenant.TenantResolverService;
+import com.vi.tenantservice.useradminservice.generated.web.AdminUserControllerApi;
+import com.vi.tenantservice.useradminservice.generated.web.model.AdminDTO;
+import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+
+@ExtendWith(MockitoExtension.class)
+class UserAdminServiceTest {
+
+  UserAdminService userAdminService;
+
+  @Mock TenantResolverService tenantResolverService;
+
+  @Mock UserAdminServiceApiControllerFactory userAdminServiceApiControllerFactory;
+
+  @Mock SecurityHeaderSupplier securityHeaderSupplier;
+
+  @Mock AdminUserControllerApi adminUserControllerApi;
+
+  private final ExecutorService remoteCallExecutor = Executors.newFixedThreadPool(2);
+
+  @BeforeEach
+  void setUp() {
+    userAdminService =
+        new UserAdminService(
+            tenantResolverService,
+            userAdminServiceApiControllerFactory,
+            securityHeaderSupplier,
+            remoteCallExecutor);
+    ReflectionTestUtils.setField(userAdminService, "enrichmentTimeoutMillis", 1000L);
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    when(tenantResolverService.tryResolve()).thenReturn(Optional.of(1L));
+    when(userAdminServiceApiControllerFactory.getControllerApi())
+        .thenReturn(adminUserControllerApi);
+  }
+
+  @AfterEach
+  void tearDown() {
+    remoteCallExecutor.shutdownNow();
+  }
+
+  @Test
+  void getTenantAdmins_Should_returnAdminsOfEachTenant_When_CalledWithSeveralTenantIds() {
+    // given
+    when(adminUserControllerApi.getTenantAdmins(2)).thenReturn(List.of(adminWithEmail("a@b.de")));
+    when(adminUserControllerApi.getTenantAdmins(3)).thenReturn(List.of(adminWithEmail("c@d.de")));
+
+    // when
+    var tenantAdmins = userAdminService.getTenantAdmins(List.of(2, 3, 3));
+
+    // then
+    assertThat(tenantAdmins).containsOnlyKeys(2, 3);
+    assertThat(tenantAdmins.get(2).get(0).getEmbedded().getEmail()).isEqualTo("a@b.de");
+    assertThat(tenantAdmins.get(3).get(0).getEmbedded().getEmail()).isEqualTo("c@d.de");
+    verify(adminUserControllerApi).getTenantAdmins(3);
+    verify(securityHeaderSupplier, times(1)).getKeycloakAndCsrfHttpHeaders();
+    verify(tenantResolverService, times(1)).tryResolve();
+  }
+
+  @Test
+  void getTenantAdmins_Should_propagateException_When_OneCallFails() {
+    // given
+    when(adminUserControllerApi.getTenantAdmins(2)).thenReturn(List.of());
+    when(adminUserControllerApi.getTenantAdmins(3))
+        .thenThrow(new RestClientException("unavailable"));
+    var tenantIds = List.of(2, 3);
+
+    // when, then
+    assertThrows(RestClientException.class, () -> userAdminService.getTenantAdmins(tenantIds));
+  }
+
+  @Test
+  void getTenantAdmins_Should_returnPartialResultAndCancelCall_When_OneCallExceedsTimeout()
+      throws InterruptedException {
+    // given
+    ReflectionTestUtils.setField(userAdminService, "enrichmentTimeoutMillis", 100L);
+    var interrupted = new CountDownLatch(1);
+    when(adminUserControllerApi.getTenantAdmins(2)).thenReturn(List.of(adminWithEmail("a@b.de")));
+    when(adminUserControllerApi.getTenantAdmins(3))
+        .thenAnswer(
+            invocation -> {
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+              return List.of();
+            });
+
+    // when
+    var tenantAdmins = userAdminService.getTenantAdmins(List.of(2, 3));
+
+    // then
+    assertThat(tenantAdmins).containsOnlyKeys(2);
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private AdminResponseDTO adminWithEmail(String email) {
+    return new AdminResponseDTO().embedded(new AdminDTO().email(email));
+  }
+}
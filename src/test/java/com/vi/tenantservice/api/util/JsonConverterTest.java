@@ -105,4 +105,17 @@ class JsonConverterTest {
     // then
     assertThat(translations.size(), is(0));
   }
+
+  @Test
+  void convertObjectMapFromJson_Should_returnMapWithTypedValues() {
+    // given
+    final String json = "{\"tenantId\":1, \"name\":\"tenant\"}";
+
+    // when
+    final Map<String, Object> result = JsonConverter.convertObjectMapFromJson(json);
+
+    // then
+    assertThat(result, hasEntry("tenantId", (Object) 1));
+    assertThat(result, hasEntry("name", (Object) "tenant"));
+  }
 }
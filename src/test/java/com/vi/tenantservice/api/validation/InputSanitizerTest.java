@@ -0,0 +1,99 @@
+package com.vi.tenantservice.api.validation;
+
+import static com.vi.tenantservice.api.validation.InputSanitizer.FORMATTING_AND_LINKS_POLICY;
+import static com.vi.tenantservice.api.validation.InputSanitizer.FORMATTING_POLICY;
+import static com.vi.tenantservice.api.validation.InputSanitizer.PLAIN_TEXT_POLICY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.vi.tenantservice.api.config.InputSanitizerProperties;
+import com.vi.tenantservice.api.config.InputSanitizerProperties.PolicyDefinition;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class InputSanitizerTest {
+
+  private static final String LINK_CONTENT =
+      "<a href=\"http://onlineberatung.net\"><b>content</b></a>";
+
+  @Test
+  void sanitize_Should_useConfiguredPolicy_When_PolicyNameIsConfigured() {
+    // given
+    var policyDefinition = new PolicyDefinition();
+    policyDefinition.setAllowedElements(List.of("b"));
+    var inputSanitizer = new InputSanitizer(propertiesWithPolicy("bold", policyDefinition));
+
+    // when
+    String sanitized = inputSanitizer.sanitize(LINK_CONTENT, "bold");
+
+    // then
+    assertThat(sanitized).isEqualTo("<b>content</b>");
+  }
+
+  @Test
+  void sanitize_Should_useBuiltInPolicy_When_PolicyNameIsBuiltIn() {
+    // given
+    var inputSanitizer = new InputSanitizer(new InputSanitizerProperties());
+
+    // when
+    String sanitized = inputSanitizer.sanitize(LINK_CONTENT, FORMATTING_AND_LINKS_POLICY);
+
+    // then
+    assertThat(sanitized)
+        .isEqualTo(inputSanitizer.sanitizeAllowingFormattingAndLinks(LINK_CONTENT));
+  }
+
+  @Test
+  void sanitize_Should_throwIllegalArgumentException_When_PolicyIsNotDefined() {
+    // given
+    var inputSanitizer = new InputSanitizer(new InputSanitizerProperties());
+
+    // when, then
+    assertThrows(
+        IllegalArgumentException.class, () -> inputSanitizer.sanitize(LINK_CONTENT, "unknown"));
+  }
+
+  @Test
+  void constructor_Should_throwIllegalStateException_When_ConfiguredPolicyOverridesBuiltInPolicy() {
+    // given
+    var properties = propertiesWithPolicy(FORMATTING_AND_LINKS_POLICY, new PolicyDefinition());
+
+    // when, then
+    assertThrows(IllegalStateException.class, () -> new InputSanitizer(properties));
+  }
+
+  @Test
+  void sanitizeField_Should_useConfiguredPolicyOfField_When_PolicyIsConfiguredForField() {
+    // given
+    var properties = new InputSanitizerProperties();
+    properties.setFields(Map.of("claim", PLAIN_TEXT_POLICY));
+    var inputSanitizer = new InputSanitizer(properties);
+
+    // when
+    String sanitizedClaim = inputSanitizer.sanitizeField("claim", LINK_CONTENT, FORMATTING_POLICY);
+    String sanitizedPrivacy =
+        inputSanitizer.sanitizeField("privacy", LINK_CONTENT, FORMATTING_POLICY);
+
+    // then
+    assertThat(sanitizedClaim).isEqualTo("content");
+    assertThat(sanitizedPrivacy).isEqualTo("<b>content</b>");
+  }
+
+  @Test
+  void constructor_Should_throwIllegalStateException_When_PolicyOfFieldIsNotDefined() {
+    // given
+    var properties = new InputSanitizerProperties();
+    properties.setFields(Map.of("claim", "unknown"));
+
+    // when, then
+    assertThrows(IllegalStateException.class, () -> new InputSanitizer(properties));
+  }
+
+  private InputSanitizerProperties propertiesWithPolicy(
+      String policyName, PolicyDefinition policyDefinition) {
+    var properties = new InputSanitizerProperties();
+    properties.setDefinitions(Map.of(policyName, policyDefinition));
+    return properties;
+  }
+}
@@ -1,17 +1,21 @@
 package com.vi.tenantservice.api.validation;
 
+import static com.vi.tenantservice.api.validation.InputSanitizer.FORMATTING_AND_LINKS_POLICY;
+import static com.vi.tenantservice.api.validation.InputSanitizer.FORMATTING_POLICY;
+import static com.vi.tenantservice.api.validation.InputSanitizer.PLAIN_TEXT_POLICY;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.vi.tenantservice.api.config.InputSanitizerProperties;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import org.jeasy.random.EasyRandom;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,10 +26,15 @@ class TenantInputSanitizerTest {
   private static final String IMAGE_CONTENT =
       "<img src=\"http://onlineberatung.net/images/test.png\" width=\"272\" height=\"92\" />";
 
-  @InjectMocks TenantInputSanitizer tenantInputSanitizer;
+  TenantInputSanitizer tenantInputSanitizer;
 
   @Mock InputSanitizer inputSanitizer;
 
+  @BeforeEach
+  void setUp() {
+    tenantInputSanitizer = new TenantInputSanitizer(inputSanitizer, ForkJoinPool.commonPool());
+  }
+
   @Test
   void sanitize_Should_sanitizeTenantDTO() {
     // given
@@ -37,8 +46,7 @@ class TenantInputSanitizerTest {
     tenantDTO
         .getContent()
         .setTermsAndConditions(getDefaultTranslationsAsMap("terms and conditions"));
-    when(inputSanitizer.sanitizeAllowingFormattingAndLinks(Mockito.anyString())).thenReturn("");
-    when(inputSanitizer.sanitizeAllowingFormatting(Mockito.anyString())).thenReturn("");
+    when(inputSanitizer.sanitizeField(anyString(), anyString(), anyString())).thenReturn("");
 
     // when
     MultilingualTenantDTO sanitized = tenantInputSanitizer.sanitize(tenantDTO);
@@ -57,7 +65,8 @@ class TenantInputSanitizerTest {
     tenantDTO.getContent().setPrivacy(getDefaultTranslationsAsMap(LINK_CONTENT));
     tenantDTO.getContent().setImpressum(getDefaultTranslationsAsMap(LINK_CONTENT));
     TenantInputSanitizer nonMockedTenantInputSanitizer =
-        new TenantInputSanitizer(new InputSanitizer());
+        new TenantInputSanitizer(
+            new InputSanitizer(new InputSanitizerProperties()), ForkJoinPool.commonPool());
     // when
     MultilingualTenantDTO sanitized = nonMockedTenantInputSanitizer.sanitize(tenantDTO);
 
@@ -85,7 +94,8 @@ class TenantInputSanitizerTest {
     tenantDTO.getContent().setPrivacy(getDefaultTranslationsAsMap(IMAGE_CONTENT));
     tenantDTO.getContent().setImpressum(getDefaultTranslationsAsMap(IMAGE_CONTENT));
     TenantInputSanitizer nonMockedTenantInputSanitizer =
-        new TenantInputSanitizer(new InputSanitizer());
+        new TenantInputSanitizer(
+            new InputSanitizer(new InputSanitizerProperties()), ForkJoinPool.commonPool());
     // when
     MultilingualTenantDTO sanitized = nonMockedTenantInputSanitizer.sanitize(tenantDTO);
 
@@ -98,17 +108,47 @@ class TenantInputSanitizerTest {
         .isEqualTo(getDefaultTranslationsAsMap(IMAGE_CONTENT));
   }
 
+  @Test
+  void sanitize_Should_useConfiguredPolicy_When_PolicyIsConfiguredForField() {
+    // given
+    EasyRandom generator = new EasyRandom();
+    MultilingualTenantDTO tenantDTO = generator.nextObject(MultilingualTenantDTO.class);
+    tenantDTO.getContent().setClaim(getDefaultTranslationsAsMap(LINK_CONTENT));
+    var properties = new InputSanitizerProperties();
+    properties.setFields(Map.of("claim", PLAIN_TEXT_POLICY));
+    TenantInputSanitizer nonMockedTenantInputSanitizer =
+        new TenantInputSanitizer(new InputSanitizer(properties), ForkJoinPool.commonPool());
+
+    // when
+    MultilingualTenantDTO sanitized = nonMockedTenantInputSanitizer.sanitize(tenantDTO);
+
+    // then
+    assertThat(sanitized.getContent().getClaim())
+        .isEqualTo(getDefaultTranslationsAsMap("contentfurther content"));
+  }
+
   private void verifyNeededSanitizationsAreCalled(MultilingualTenantDTO tenantDTO) {
-    verify(inputSanitizer).sanitize(tenantDTO.getName());
-    verify(inputSanitizer).sanitize(tenantDTO.getSubdomain());
-    verify(inputSanitizer).sanitize(tenantDTO.getTheming().getLogo());
-    verify(inputSanitizer).sanitize(tenantDTO.getTheming().getFavicon());
-    verify(inputSanitizer).sanitize(tenantDTO.getTheming().getAssociationLogo());
-    verify(inputSanitizer).sanitizeAllowingFormatting(Mockito.anyString());
-    verify(inputSanitizer, Mockito.times(3))
-        .sanitizeAllowingFormattingAndLinks(Mockito.anyString());
-    verify(inputSanitizer).sanitize(tenantDTO.getTheming().getPrimaryColor());
-    verify(inputSanitizer).sanitize(tenantDTO.getTheming().getSecondaryColor());
+    verify(inputSanitizer).sanitizeField("name", tenantDTO.getName(), PLAIN_TEXT_POLICY);
+    verify(inputSanitizer).sanitizeField("subdomain", tenantDTO.getSubdomain(), PLAIN_TEXT_POLICY);
+    verify(inputSanitizer)
+        .sanitizeField("logo", tenantDTO.getTheming().getLogo(), PLAIN_TEXT_POLICY);
+    verify(inputSanitizer)
+        .sanitizeField("favicon", tenantDTO.getTheming().getFavicon(), PLAIN_TEXT_POLICY);
+    verify(inputSanitizer)
+        .sanitizeField(
+            "associationLogo", tenantDTO.getTheming().getAssociationLogo(), PLAIN_TEXT_POLICY);
+    verify(inputSanitizer)
+        .sanitizeField("primaryColor", tenantDTO.getTheming().getPrimaryColor(), PLAIN_TEXT_POLICY);
+    verify(inputSanitizer)
+        .sanitizeField(
+            "secondaryColor", tenantDTO.getTheming().getSecondaryColor(), PLAIN_TEXT_POLICY);
+    verify(inputSanitizer).sanitizeField(eq("claim"), anyString(), eq(FORMATTING_POLICY));
+    verify(inputSanitizer)
+        .sanitizeField(eq("impressum"), anyString(), eq(FORMATTING_AND_LINKS_POLICY));
+    verify(inputSanitizer)
+        .sanitizeField(eq("privacy"), anyString(), eq(FORMATTING_AND_LINKS_POLICY));
+    verify(inputSanitizer)
+        .sanitizeField(eq("termsAndConditions"), anyString(), eq(FORMATTING_AND_LINKS_POLICY));
     verifyNoMoreInteractions(inputSanitizer);
   }
 
@@ -0,0 +1,129 @@
+package com.vi.tenantservice.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local stub of the consulting type, user admin and application settings services (see
+ * services/*.yaml). Every response is delayed by a fixed latency to simulate the network and the
+ * processing time of the real services.
+ */
+@Slf4j
+class DownstreamServiceStub implements AutoCloseable {
+
+  static final String MAIN_TENANT_SUBDOMAIN = "happylife";
+
+  private static final Pattern CONSULTING_TYPE_BY_TENANT =
+      Pattern.compile("/consultingtypes/bytenant/(\\d+)/full");
+  private static final Pattern CONSULTING_TYPE = Pattern.compile("/consultingtypes/(\\d+)");
+
+  private static final String APPLICATION_SETTINGS =
+      """
+      {
+        "multitenancyWithSingleDomainEnabled": {"value": true, "readOnly": false},
+        "multitenancyEnabled": {"value": true, "readOnly": false},
+        "mainTenantSubdomainForSingleDomainMultitenancy": {"value": "%s", "readOnly": false},
+        "legalContentChangesBySingleTenantAdminsAllowed": {"value": true, "readOnly": false}
+      }
+      """
+          .formatted(MAIN_TENANT_SUBDOMAIN);
+  private static final String CONSULTING_TYPE_RESPONSE =
+      """
+      {
+        "id": %s,
+        "tenantId": %s,
+        "slug": "consultingtype-%s",
+        "languageFormal": true,
+        "isVideoCallAllowed": true,
+        "sendFurtherStepsMessage": false,
+        "sendSaveSessionDataMessage": false
+      }
+      """;
+  private static final String TENANT_ADMINS =
+      """
+      [{"_embedded": {"id": "admin-%1$s", "tenantId": "%1$s", "email": "admin@example.com"}}]
+      """;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final long latencyMillis;
+
+  DownstreamServiceStub(long latencyMillis, int threads) throws IOException {
+    this.latencyMillis = latencyMillis;
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    this.executor = Executors.newFixedThreadPool(threads);
+    server.setExecutor(executor);
+    server.createContext("/settings", exchange -> respond(exchange, 200, APPLICATION_SETTINGS));
+    server.createContext("/consultingtypes", this::handleConsultingTypes);
+    server.createContext("/useradmin/tenantadmins", this::handleTenantAdmins);
+    server.createContext("/", exchange -> respond(exchange, 404, "{}"));
+  }
+
+  void start() {
+    server.start();
+    log.info("Downstream service stub listening on {}", getUrl());
+  }
+
+  String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handleConsultingTypes(HttpExchange exchange) throws IOException {
+    var path = exchange.getRequestURI().getPath();
+    var byTenant = CONSULTING_TYPE_BY_TENANT.matcher(path);
+    if ("GET".equals(exchange.getRequestMethod()) && byTenant.matches()) {
+      var tenantId = byTenant.group(1);
+      respond(exchange, 200, CONSULTING_TYPE_RESPONSE.formatted(tenantId, tenantId, tenantId));
+      return;
+    }
+    var consultingType = CONSULTING_TYPE.matcher(path);
+    if ("PATCH".equals(exchange.getRequestMethod()) && consultingType.matches()) {
+      exchange.getRequestBody().readAllBytes();
+      var id = consultingType.group(1);
+      respond(exchange, 200, CONSULTING_TYPE_RESPONSE.formatted(id, id, id));
+      return;
+    }
+    respond(exchange, 404, "{}");
+  }
+
+  private void handleTenantAdmins(HttpExchange exchange) throws IOException {
+    var query = exchange.getRequestURI().getQuery();
+    var tenantId = query != null && query.startsWith("tenantId=") ? query.substring(9) : "0";
+    respond(exchange, 200, TENANT_ADMINS.formatted(tenantId));
+  }
+
+  private void respond(HttpExchange exchange, int status, String body) throws IOException {
+    simulateLatency();
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (var responseBody = exchange.getResponseBody()) {
+      responseBody.write(bytes);
+    }
+  }
+
+  private void simulateLatency() {
+    if (latencyMillis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
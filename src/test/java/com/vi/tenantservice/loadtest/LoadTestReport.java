@@ -0,0 +1,112 @@
+package com.vi.tenantservice.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/** Latency histograms and error counts per scenario of a load test run. */
+class LoadTestReport {
+
+  private static final long MAX_TRACKABLE_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+  private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+  private final Map<String, ScenarioResult> results = new LinkedHashMap<>();
+
+  LoadTestReport(Iterable<String> scenarios) {
+    scenarios.forEach(scenario -> results.put(scenario, new ScenarioResult()));
+  }
+
+  void record(String scenario, long latencyNanos, boolean success) {
+    var result = results.get(scenario);
+    result.latencies.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_LATENCY_NANOS));
+    if (!success) {
+      result.errors.increment();
+    }
+  }
+
+  long getTotalRequests() {
+    return results.values().stream().mapToLong(result -> result.latencies.getTotalCount()).sum();
+  }
+
+  long getTotalErrors() {
+    return results.values().stream().mapToLong(result -> result.errors.sum()).sum();
+  }
+
+  double getErrorRate() {
+    var totalRequests = getTotalRequests();
+    return totalRequests == 0 ? 0 : (double) getTotalErrors() / totalRequests;
+  }
+
+  double getPercentileMillis(String scenario, double percentile) {
+    return toMillis(results.get(scenario).latencies.getValueAtPercentile(percentile));
+  }
+
+  /**
+   * Writes the report as csv, one line per scenario and one line for all requests.
+   *
+   * @param reportFile the file to write
+   * @param duration the duration of the measurement
+   */
+  void write(Path reportFile, Duration duration) throws IOException {
+    var report = new StringBuilder();
+    report.append("# tenant service load test, ").append(Instant.now());
+    report.append(", duration ").append(duration.toSeconds()).append("s\n");
+    report.append("scenario,requests,errors,throughput_rps");
+    for (double percentile : PERCENTILES) {
+      report.append(",p").append(formatPercentile(percentile)).append("_ms");
+    }
+    report.append(",max_ms\n");
+    var total = new Histogram(MAX_TRACKABLE_LATENCY_NANOS, 3);
+    results.forEach(
+        (scenario, result) -> {
+          total.add(result.latencies);
+          appendLine(report, scenario, result.latencies, result.errors.sum(), duration);
+        });
+    appendLine(report, "total", total, getTotalErrors(), duration);
+    Files.createDirectories(reportFile.toAbsolutePath().getParent());
+    Files.writeString(reportFile, report);
+  }
+
+  private static void appendLine(
+      StringBuilder report, String scenario, Histogram latencies, long errors, Duration duration) {
+    report
+        .append(scenario)
+        .append(',')
+        .append(latencies.getTotalCount())
+        .append(',')
+        .append(errors)
+        .append(',')
+        .append(String.format("%.1f", latencies.getTotalCount() / (double) duration.toSeconds()));
+    for (double percentile : PERCENTILES) {
+      report
+          .append(',')
+          .append(String.format("%.2f", toMillis(latencies.getValueAtPercentile(percentile))));
+    }
+    report.append(',').append(String.format("%.2f", toMillis(latencies.getMaxValue())));
+    report.append('\n');
+  }
+
+  private static String formatPercentile(double percentile) {
+    return percentile == Math.rint(percentile)
+        ? String.valueOf((long) percentile)
+        : String.valueOf(percentile).replace('.', '_');
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000d;
+  }
+
+  private static class ScenarioResult {
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_LATENCY_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+  }
+}
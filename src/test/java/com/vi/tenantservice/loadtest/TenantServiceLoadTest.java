@@ -0,0 +1,266 @@
+package com.vi.tenantservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vi.tenantservice.TenantServiceApplication;
+import com.vi.tenantservice.api.authorisation.UserRole;
+import com.vi.tenantservice.api.util.MultilingualTenantTestDataBuilder;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Drives mixed traffic against the public and the admin endpoints of a running tenant service. The
+ * service runs on H2 and calls local stubs of the downstream services, so the test runs offline.
+ * Latency percentiles and throughput are written to target/load-test/report.csv.
+ *
+ * <p>Run with {@code mvn -P load-test test}, the load can be adapted by the loadtest.* properties,
+ * e.g. {@code -Dloadtest.threads=64 -Dloadtest.duration.seconds=300}.
+ */
+@Tag("LoadTest")
+@Slf4j
+@Import(TenantServiceLoadTest.LoadTestSecurityConfig.class)
+@SpringBootTest(
+    classes = TenantServiceApplication.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(
+    properties = {
+      "spring.profiles.active=testing",
+      "feature.multitenancy.with.single.domain.enabled=true",
+      "logging.level.com.vi.tenantservice.api=WARN"
+    })
+class TenantServiceLoadTest {
+
+  private static final String PUBLIC_BY_SUBDOMAIN = "public-by-subdomain";
+  private static final String PUBLIC_BY_CONTEXT = "public-by-context";
+  private static final String ADMIN_SEARCH = "admin-search";
+  private static final String ADMIN_UPDATE = "admin-update";
+
+  /** Share of each scenario in the traffic, in percent. */
+  private static final Map<String, Integer> TRAFFIC_MIX =
+      Map.of(PUBLIC_BY_SUBDOMAIN, 40, PUBLIC_BY_CONTEXT, 30, ADMIN_SEARCH, 20, ADMIN_UPDATE, 10);
+
+  private static final List<String> SCENARIOS =
+      List.of(PUBLIC_BY_SUBDOMAIN, PUBLIC_BY_CONTEXT, ADMIN_SEARCH, ADMIN_UPDATE);
+
+  private static final Map<Long, String> TENANT_SUBDOMAINS =
+      Map.of(
+          1L, DownstreamServiceStub.MAIN_TENANT_SUBDOMAIN, 2L, "examplesubdomain", 3L, "localhost");
+
+  private static final long MAIN_TENANT_ID = 1L;
+
+  private static final String ACCESS_TOKEN = "load-test-token";
+
+  private static DownstreamServiceStub downstreamServiceStub;
+
+  @LocalServerPort private int port;
+
+  @Value("${loadtest.threads:16}")
+  private int threads;
+
+  @Value("${loadtest.warmup.seconds:10}")
+  private long warmupSeconds;
+
+  @Value("${loadtest.duration.seconds:60}")
+  private long durationSeconds;
+
+  @Value("${loadtest.max.error.rate:0.01}")
+  private double maxErrorRate;
+
+  @Value("${loadtest.max.p99.millis:0}")
+  private double maxP99Millis;
+
+  @Value("${loadtest.report.file:target/load-test/report.csv}")
+  private Path reportFile;
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+  @DynamicPropertySource
+  static void downstreamServiceProperties(DynamicPropertyRegistry registry) throws IOException {
+    downstreamServiceStub =
+        new DownstreamServiceStub(
+            Long.getLong("loadtest.downstream.latency.millis", 20),
+            Integer.getInteger("loadtest.downstream.threads", 64));
+    downstreamServiceStub.start();
+    registry.add("consulting.type.service.api.url", downstreamServiceStub::getUrl);
+    registry.add("user.service.api.url", downstreamServiceStub::getUrl);
+  }
+
+  @AfterAll
+  static void stopDownstreamServiceStub() {
+    downstreamServiceStub.close();
+  }
+
+  @Test
+  void mixedTraffic_Should_stayWithinErrorRateAndLatencyLimits() throws Exception {
+    // given
+    runLoad(new LoadTestReport(SCENARIOS), Duration.ofSeconds(warmupSeconds));
+
+    // when
+    var report = new LoadTestReport(SCENARIOS);
+    var duration = Duration.ofSeconds(durationSeconds);
+    runLoad(report, duration);
+    report.write(reportFile, duration);
+    log.info(
+        "Load test finished, {} requests, {} errors, report written to {}",
+        report.getTotalRequests(),
+        report.getTotalErrors(),
+        reportFile.toAbsolutePath());
+
+    // then
+    assertThat(report.getTotalRequests()).isPositive();
+    assertThat(report.getErrorRate()).isLessThanOrEqualTo(maxErrorRate);
+    if (maxP99Millis > 0) {
+      SCENARIOS.forEach(
+          scenario ->
+              assertThat(report.getPercentileMillis(scenario, 99))
+                  .as("p99 of %s", scenario)
+                  .isLessThanOrEqualTo(maxP99Millis));
+    }
+  }
+
+  private void runLoad(LoadTestReport report, Duration duration) throws Exception {
+    var end = Instant.now().plus(duration);
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> pendingWorkers = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        pendingWorkers.add(workers.submit(() -> sendUntil(end, report)));
+      }
+      for (Future<?> worker : pendingWorkers) {
+        worker.get();
+      }
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  private void sendUntil(Instant end, LoadTestReport report) {
+    while (Instant.now().isBefore(end)) {
+      var scenario = nextScenario();
+      var request = createRequest(scenario);
+      long start = System.nanoTime();
+      boolean success;
+      try {
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        success = response.statusCode() < 400;
+      } catch (IOException e) {
+        success = false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      report.record(scenario, System.nanoTime() - start, success);
+    }
+  }
+
+  private String nextScenario() {
+    int value = ThreadLocalRandom.current().nextInt(100);
+    for (String scenario : SCENARIOS) {
+      value -= TRAFFIC_MIX.get(scenario);
+      if (value < 0) {
+        return scenario;
+      }
+    }
+    return SCENARIOS.get(0);
+  }
+
+  private HttpRequest createRequest(String scenario) {
+    var tenantId = ThreadLocalRandom.current().nextLong(1, TENANT_SUBDOMAINS.size() + 1);
+    return switch (scenario) {
+      case PUBLIC_BY_SUBDOMAIN -> request("/tenant/public/" + TENANT_SUBDOMAINS.get(tenantId))
+          .header("Accept", "application/json")
+          .GET()
+          .build();
+      case PUBLIC_BY_CONTEXT -> request("/tenant/public/")
+          .header("Accept", "application/json")
+          .header("Cookie", "tenantId=" + tenantId)
+          .GET()
+          .build();
+      case ADMIN_SEARCH -> request("/tenantadmin/search?query=*&page=1&perPage=10")
+          .header("Accept", "application/hal+json")
+          .header("Authorization", "Bearer " + ACCESS_TOKEN)
+          .GET()
+          .build();
+      default -> request("/tenantadmin/" + MAIN_TENANT_ID)
+          .header("Accept", "application/json")
+          .header("Authorization", "Bearer " + ACCESS_TOKEN)
+          .header("Content-Type", "application/json")
+          .PUT(HttpRequest.BodyPublishers.ofString(updatedMainTenant()))
+          .build();
+    };
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .timeout(Duration.ofSeconds(30))
+        .header("Accept-Encoding", "gzip");
+  }
+
+  /**
+   * Get an update of the main tenant. In single domain multitenancy the subdomains of all other
+   * tenants are cleared on update, which would break the lookup by subdomain.
+   */
+  private static String updatedMainTenant() {
+    return new MultilingualTenantTestDataBuilder()
+        .tenantDTO()
+        .withId(MAIN_TENANT_ID)
+        .withName("Load test tenant " + ThreadLocalRandom.current().nextInt(1000))
+        .withSubdomain(DownstreamServiceStub.MAIN_TENANT_SUBDOMAIN)
+        .withLicensing(5)
+        .withContent()
+        .withSettings()
+        .jsonify();
+  }
+
+  /**
+   * Accepts every bearer token as token of a tenant admin, as there is no keycloak in the load test
+   * environment.
+   */
+  @TestConfiguration
+  static class LoadTestSecurityConfig {
+
+    @Bean
+    JwtDecoder jwtDecoder() {
+      return token ->
+          Jwt.withTokenValue(token)
+              .header("alg", "none")
+              .subject("load-test-admin")
+              .claim("username", "load-test-admin")
+              .claim("preferred_username", "load-test-admin")
+              .claim("realm_access", Map.of("roles", List.of(UserRole.TENANT_ADMIN.getValue())))
+              .issuedAt(Instant.now())
+              .expiresAt(Instant.now().plusSeconds(300))
+              .build();
+    }
+  }
+}